@@ -43,6 +43,9 @@ import java.net.SocketAddress;
 import java.util.Arrays;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @AllArgsConstructor
 public class GeyserBungeePingPassthrough implements IGeyserPingPassthrough, Listener {
@@ -56,7 +59,12 @@ public class GeyserBungeePingPassthrough implements IGeyserPingPassthrough, List
             if (throwable != null) future.completeExceptionally(throwable);
             else future.complete(event);
         }));
-        ProxyPingEvent event = future.join();
+        ProxyPingEvent event;
+        try {
+            event = future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException | InterruptedException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
         ServerPing response = event.getResponse();
         GeyserPingInfo geyserPingInfo = new GeyserPingInfo(
                 response.getDescriptionComponent().toLegacyText(),
@@ -35,6 +35,7 @@ import org.geysermc.connector.command.CommandManager;
 import org.geysermc.connector.configuration.GeyserConfiguration;
 import org.geysermc.connector.dump.BootstrapDumpInfo;
 import org.geysermc.connector.network.translators.world.WorldManager;
+import org.geysermc.connector.ping.GeyserCachedPingPassthrough;
 import org.geysermc.connector.ping.GeyserLegacyPingPassthrough;
 import org.geysermc.connector.ping.IGeyserPingPassthrough;
 import org.geysermc.connector.utils.FileUtils;
@@ -132,7 +133,7 @@ public class GeyserSpigotPlugin extends JavaPlugin implements GeyserBootstrap {
         if (geyserConfig.isLegacyPingPassthrough()) {
             this.geyserSpigotPingPassthrough = GeyserLegacyPingPassthrough.init(connector);
         } else {
-            this.geyserSpigotPingPassthrough = new GeyserSpigotPingPassthrough(geyserLogger);
+            this.geyserSpigotPingPassthrough = GeyserCachedPingPassthrough.init(connector, new GeyserSpigotPingPassthrough(geyserLogger));
         }
 
         this.geyserCommandManager = new GeyserSpigotCommandManager(this, connector);
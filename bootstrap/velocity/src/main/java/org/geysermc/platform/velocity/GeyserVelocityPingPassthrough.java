@@ -38,6 +38,8 @@ import org.geysermc.connector.ping.IGeyserPingPassthrough;
 import java.net.InetSocketAddress;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @AllArgsConstructor
 public class GeyserVelocityPingPassthrough implements IGeyserPingPassthrough {
@@ -50,8 +52,8 @@ public class GeyserVelocityPingPassthrough implements IGeyserPingPassthrough {
         try {
             event = server.getEventManager().fire(new ProxyPingEvent(new GeyserInboundConnection(inetSocketAddress), ServerPing.builder()
                     .description(server.getConfiguration().getMotd()).onlinePlayers(server.getPlayerCount())
-                    .maximumPlayers(server.getConfiguration().getShowMaxPlayers()).build())).get();
-        } catch (ExecutionException | InterruptedException e) {
+                    .maximumPlayers(server.getConfiguration().getShowMaxPlayers()).build())).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException | InterruptedException | TimeoutException e) {
             throw new RuntimeException(e);
         }
         GeyserPingInfo geyserPingInfo = new GeyserPingInfo(
@@ -38,6 +38,7 @@ import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.bootstrap.GeyserBootstrap;
 import org.geysermc.connector.configuration.GeyserConfiguration;
 import org.geysermc.connector.dump.BootstrapDumpInfo;
+import org.geysermc.connector.ping.GeyserCachedPingPassthrough;
 import org.geysermc.connector.ping.GeyserLegacyPingPassthrough;
 import org.geysermc.connector.ping.IGeyserPingPassthrough;
 import org.geysermc.connector.utils.FileUtils;
@@ -125,7 +126,7 @@ public class GeyserVelocityPlugin implements GeyserBootstrap {
         if (geyserConfig.isLegacyPingPassthrough()) {
             this.geyserPingPassthrough = GeyserLegacyPingPassthrough.init(connector);
         } else {
-            this.geyserPingPassthrough = new GeyserVelocityPingPassthrough(proxyServer);
+            this.geyserPingPassthrough = GeyserCachedPingPassthrough.init(connector, new GeyserVelocityPingPassthrough(proxyServer));
         }
     }
 
@@ -40,6 +40,7 @@ import org.geysermc.connector.common.AuthType;
 import org.geysermc.connector.configuration.GeyserConfiguration;
 import org.geysermc.connector.metrics.Metrics;
 import org.geysermc.connector.network.ConnectorServerEventHandler;
+import org.geysermc.connector.network.LoginPackets;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.BiomeTranslator;
 import org.geysermc.connector.network.translators.EntityIdentifierRegistry;
@@ -135,21 +136,28 @@ public class GeyserConnector {
         PacketTranslatorRegistry.init();
 
         /* Initialize translators and registries */
-        BiomeTranslator.init();
-        BlockTranslator.init();
-        BlockEntityTranslator.init();
-        EffectRegistry.init();
-        EntityIdentifierRegistry.init();
-        ItemRegistry.init();
-        ItemTranslator.init();
-        CollisionTranslator.init();
-        LocaleUtils.init();
-        PotionMixRegistry.init();
-        RecipeRegistry.init();
-        SoundRegistry.init();
-        SoundHandlerRegistry.init();
-
-        ResourcePack.loadPacks();
+        Map<String, Long> registryLoadTimes = new LinkedHashMap<>();
+        timeRegistryLoad(registryLoadTimes, "biomes", BiomeTranslator::init);
+        timeRegistryLoad(registryLoadTimes, "blocks", BlockTranslator::init);
+        timeRegistryLoad(registryLoadTimes, "block entities", BlockEntityTranslator::init);
+        timeRegistryLoad(registryLoadTimes, "effects", EffectRegistry::init);
+        timeRegistryLoad(registryLoadTimes, "entity identifiers", EntityIdentifierRegistry::init);
+        timeRegistryLoad(registryLoadTimes, "items", ItemRegistry::init);
+        timeRegistryLoad(registryLoadTimes, "item translators", ItemTranslator::init);
+        timeRegistryLoad(registryLoadTimes, "collisions", CollisionTranslator::init);
+        timeRegistryLoad(registryLoadTimes, "locales", LocaleUtils::init);
+        timeRegistryLoad(registryLoadTimes, "potion mixes", PotionMixRegistry::init);
+        timeRegistryLoad(registryLoadTimes, "recipes", RecipeRegistry::init);
+        timeRegistryLoad(registryLoadTimes, "sounds", SoundRegistry::init);
+        timeRegistryLoad(registryLoadTimes, "sound handlers", SoundHandlerRegistry::init);
+        timeRegistryLoad(registryLoadTimes, "login packets", LoginPackets::init);
+        timeRegistryLoad(registryLoadTimes, "resource packs", ResourcePack::loadPacks);
+
+        StringBuilder startupReport = new StringBuilder("Registry load times:");
+        for (Map.Entry<String, Long> entry : registryLoadTimes.entrySet()) {
+            startupReport.append(' ').append(entry.getKey()).append('=').append(entry.getValue()).append("ms");
+        }
+        logger.debug(startupReport.toString());
 
         if (platformType != PlatformType.STANDALONE && config.getRemote().getAddress().equals("auto")) {
             // Set the remote address to localhost since that is where we are always connecting
@@ -385,6 +393,19 @@ public class GeyserConnector {
         return null;
     }
 
+    /**
+     * Runs a registry initializer and records how long it took, for the startup report
+     *
+     * @param loadTimes the map to record the load time in milliseconds into
+     * @param name the name of the registry in the report
+     * @param init the registry initializer
+     */
+    private static void timeRegistryLoad(Map<String, Long> loadTimes, String name, Runnable init) {
+        long start = System.nanoTime();
+        init.run();
+        loadTimes.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     public static GeyserConnector start(PlatformType platformType, GeyserBootstrap bootstrap) {
         return new GeyserConnector(platformType, bootstrap);
     }
@@ -91,6 +91,8 @@ public interface GeyserConfiguration {
 
     boolean isForceResourcePacks();
 
+    int getMaxConcurrentPackDownloads();
+
     boolean isXboxAchievementsEnabled();
 
     int getCacheImages();
@@ -115,6 +117,12 @@ public interface GeyserConfiguration {
 
         int getCompressionLevel();
 
+        boolean isAdaptiveCompression();
+
+        int getLoginRateLimit();
+
+        int getMaxQueuedLogins();
+
         boolean isEnableProxyProtocol();
 
         List<String> getProxyProtocolWhitelistedIPs();
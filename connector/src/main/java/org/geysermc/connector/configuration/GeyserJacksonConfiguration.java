@@ -129,6 +129,9 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("force-resource-packs")
     private boolean forceResourcePacks = true;
 
+    @JsonProperty("max-concurrent-pack-downloads")
+    private int maxConcurrentPackDownloads = 0;
+
     @JsonProperty("xbox-achievements-enabled")
     private boolean xboxAchievementsEnabled = false;
 
@@ -159,6 +162,15 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
             return Math.max(-1, Math.min(compressionLevel, 9));
         }
 
+        @JsonProperty("adaptive-compression")
+        private boolean adaptiveCompression = true;
+
+        @JsonProperty("login-rate-limit")
+        private int loginRateLimit = 0;
+
+        @JsonProperty("max-queued-logins")
+        private int maxQueuedLogins = 0;
+
         @JsonProperty("enable-proxy-protocol")
         private boolean enableProxyProtocol = false;
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+package org.geysermc.connector.network;
+
+import com.nukkitx.protocol.bedrock.BedrockPacket;
+import com.nukkitx.protocol.bedrock.BedrockPacketCodec;
+import com.nukkitx.protocol.bedrock.BedrockSession;
+import com.nukkitx.protocol.bedrock.packet.AvailableEntityIdentifiersPacket;
+import com.nukkitx.protocol.bedrock.packet.BiomeDefinitionListPacket;
+import com.nukkitx.protocol.bedrock.packet.CreativeContentPacket;
+import com.nukkitx.protocol.bedrock.packet.ItemComponentPacket;
+import com.nukkitx.protocol.bedrock.v431.Bedrock_v431;
+import com.nukkitx.protocol.bedrock.wrapper.BedrockWrapperSerializers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.geysermc.connector.network.translators.BiomeTranslator;
+import org.geysermc.connector.network.translators.EntityIdentifierRegistry;
+import org.geysermc.connector.network.translators.item.ItemRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Holds the login packets that are identical for every session joining with the same Bedrock version,
+ * so they are only built, serialized and compressed once instead of for every player.
+ */
+public class LoginPackets {
+    /**
+     * The static login packets of each supported protocol version, in the order they should be sent
+     */
+    private static final Int2ObjectMap<List<BedrockPacket>> STATIC_PACKETS = new Int2ObjectOpenHashMap<>();
+    /**
+     * The static login packets of each protocol version as one compressed batch, created when the first session
+     * of that version joins
+     */
+    private static final Int2ObjectMap<ByteBuf> COMPRESSED_STATIC_PACKETS = new Int2ObjectOpenHashMap<>();
+    /**
+     * Registers our custom items, or null if there are none
+     */
+    private static ItemComponentPacket ITEM_COMPONENT_PACKET;
+
+    public static void init() {
+        if (ItemRegistry.FURNACE_MINECART_DATA != null) {
+            ITEM_COMPONENT_PACKET = new ItemComponentPacket();
+            ITEM_COMPONENT_PACKET.getItems().add(ItemRegistry.FURNACE_MINECART_DATA);
+        }
+
+        for (BedrockPacketCodec codec : BedrockProtocol.SUPPORTED_BEDROCK_CODECS) {
+            STATIC_PACKETS.put(codec.getProtocolVersion(), Collections.unmodifiableList(buildPackets(codec)));
+        }
+    }
+
+    private static List<BedrockPacket> buildPackets(BedrockPacketCodec codec) {
+        List<BedrockPacket> packets = new ArrayList<>();
+
+        BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
+        biomeDefinitionListPacket.setDefinitions(BiomeTranslator.BIOMES);
+        packets.add(biomeDefinitionListPacket);
+
+        AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
+        entityPacket.setIdentifiers(EntityIdentifierRegistry.ENTITY_IDENTIFIERS);
+        packets.add(entityPacket);
+
+        CreativeContentPacket creativePacket = new CreativeContentPacket();
+        if (codec.getProtocolVersion() < Bedrock_v431.V431_CODEC.getProtocolVersion()) {
+            creativePacket.setContents(ItemRegistry.getPre1_16_220CreativeContents());
+        } else {
+            // No additional work required
+            creativePacket.setContents(ItemRegistry.CREATIVE_ITEMS);
+        }
+        packets.add(creativePacket);
+        return packets;
+    }
+
+    /**
+     * Get the item component packet, which must be sent before the chunks and the other static login packets.
+     *
+     * @return the item component packet, or null if there are no custom items
+     */
+    public static ItemComponentPacket getItemComponentPacket() {
+        return ITEM_COMPONENT_PACKET;
+    }
+
+    /**
+     * Get the login packets that don't depend on the session for the given codec.
+     *
+     * @param codec the codec of the session
+     * @return the biome definition, entity identifier and creative content packets for this codec
+     */
+    public static List<BedrockPacket> getStaticPackets(BedrockPacketCodec codec) {
+        List<BedrockPacket> packets = STATIC_PACKETS.get(codec.getProtocolVersion());
+        if (packets == null) {
+            // Codec wasn't registered as supported; build it for this session only
+            return buildPackets(codec);
+        }
+        return packets;
+    }
+
+    /**
+     * Get the login packets that don't depend on the session as a serialized and compressed batch, ready for
+     * {@link BedrockSession#sendWrapped(ByteBuf, boolean)}. The hardcoded shield ID of the session must already be
+     * set, as it is part of the encoded items.
+     *
+     * @param session the session to get the batch for
+     * @return a buffer the caller is responsible for releasing
+     */
+    public static synchronized ByteBuf getCompressedStaticPackets(BedrockSession session) {
+        BedrockPacketCodec codec = session.getPacketCodec();
+        ByteBuf compressed = COMPRESSED_STATIC_PACKETS.get(codec.getProtocolVersion());
+        if (compressed == null) {
+            compressed = Unpooled.directBuffer();
+            // Only done once, so it might as well be as small as possible
+            BedrockWrapperSerializers.getSerializer(codec.getProtocolVersion())
+                    .serialize(compressed, codec, getStaticPackets(codec), Deflater.BEST_COMPRESSION, session);
+            if (!STATIC_PACKETS.containsKey(codec.getProtocolVersion())) {
+                return compressed;
+            }
+            COMPRESSED_STATIC_PACKETS.put(codec.getProtocolVersion(), compressed);
+        }
+        return compressed.retainedDuplicate();
+    }
+}
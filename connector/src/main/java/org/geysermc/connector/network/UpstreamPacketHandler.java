@@ -42,10 +42,22 @@ import org.geysermc.connector.network.translators.world.block.BlockTranslator1_1
 import org.geysermc.connector.network.translators.world.block.BlockTranslator1_16_210;
 import org.geysermc.connector.utils.*;
 
-import java.io.FileInputStream;
-import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
 public class UpstreamPacketHandler extends LoggingPacketHandler {
+    /**
+     * How long a session can go without requesting a resource pack chunk before its download slot is released
+     */
+    private static final long PACK_DOWNLOAD_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * Whether this session currently holds one of the resource pack download slots
+     */
+    private boolean downloadingPacks = false;
+    private boolean disconnectHandlerAdded = false;
+    private long packDownloadStartTime;
+    private long lastChunkRequestTime;
+    private long packBytesSent;
 
     public UpstreamPacketHandler(GeyserConnector connector, GeyserSession session) {
         super(connector, session);
@@ -77,8 +89,12 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         session.setBlockTranslator(packetCodec.getProtocolVersion() >= Bedrock_v428.V428_CODEC.getProtocolVersion()
                 ? BlockTranslator1_16_210.INSTANCE : BlockTranslator1_16_100.INSTANCE);
 
-        LoginEncryptionUtils.encryptPlayerConnection(connector, session, loginPacket);
+        // Verifying the login is done off of the network thread
+        LoginEncryptionUtils.encryptPlayerConnectionAsync(connector, session, loginPacket, this::sendResourcePacksInfo);
+        return true;
+    }
 
+    private void sendResourcePacksInfo() {
         PlayStatusPacket playStatus = new PlayStatusPacket();
         playStatus.setStatus(PlayStatusPacket.Status.LOGIN_SUCCESS);
         session.sendUpstreamPacket(playStatus);
@@ -87,18 +103,18 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         for(ResourcePack resourcePack : ResourcePack.PACKS.values()) {
             ResourcePackManifest.Header header = resourcePack.getManifest().getHeader();
             resourcePacksInfo.getResourcePackInfos().add(new ResourcePacksInfoPacket.Entry(
-                    header.getUuid().toString(), header.getVersionString(), resourcePack.getFile().length(),
+                    header.getUuid().toString(), header.getVersionString(), resourcePack.getLength(),
                             "", "", "", false, false));
         }
         resourcePacksInfo.setForcedToAccept(GeyserConnector.getInstance().getConfig().isForceResourcePacks());
         session.sendUpstreamPacket(resourcePacksInfo);
-        return true;
     }
 
     @Override
     public boolean handle(ResourcePackClientResponsePacket packet) {
         switch (packet.getStatus()) {
             case COMPLETED:
+                finishPackDownload();
                 session.connect();
                 connector.getLogger().info(LanguageUtils.getLocaleStringLog("geyser.network.connect", session.getAuthData().getName()));
                 break;
@@ -111,9 +127,8 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
                     ResourcePackManifest.Header header = pack.getManifest().getHeader();
 
                     data.setPackId(header.getUuid());
-                    int chunkCount = (int) Math.ceil((int) pack.getFile().length() / (double) ResourcePack.CHUNK_SIZE);
-                    data.setChunkCount(chunkCount);
-                    data.setCompressedPackSize(pack.getFile().length());
+                    data.setChunkCount(pack.getChunkCount());
+                    data.setCompressedPackSize(pack.getLength());
                     data.setMaxChunkSize(ResourcePack.CHUNK_SIZE);
                     data.setHash(pack.getSha256());
                     data.setPackVersion(packID[1]);
@@ -125,6 +140,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
                 break;
 
             case HAVE_ALL_PACKS:
+                finishPackDownload();
                 ResourcePackStackPacket stackPacket = new ResourcePackStackPacket();
                 stackPacket.setExperimentsPreviouslyToggled(false);
                 stackPacket.setForcedToAccept(false); // Leaving this as false allows the player to choose to download or not
@@ -144,6 +160,7 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
                 break;
 
             default:
+                finishPackDownload();
                 session.disconnect("disconnectionScreen.resourcePack");
                 break;
         }
@@ -225,6 +242,16 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
 
     @Override
     public boolean handle(ResourcePackChunkRequestPacket packet) {
+        if (!startPackDownload()) {
+            // Too many players are downloading packs right now - try this chunk again shortly
+            connector.getGeneralThreadPool().schedule(() -> {
+                if (!session.isClosed()) {
+                    handle(packet);
+                }
+            }, 500, TimeUnit.MILLISECONDS);
+            return true;
+        }
+
         ResourcePackChunkDataPacket data = new ResourcePackChunkDataPacket();
         ResourcePack pack = ResourcePack.PACKS.get(packet.getPackId().toString());
 
@@ -233,19 +260,76 @@ public class UpstreamPacketHandler extends LoggingPacketHandler {
         data.setPackVersion(packet.getPackVersion());
         data.setPackId(packet.getPackId());
 
-        int offset = packet.getChunkIndex() * ResourcePack.CHUNK_SIZE;
-        byte[] packData = new byte[(int) MathUtils.constrain(pack.getFile().length() - offset, 0, ResourcePack.CHUNK_SIZE)];
-
-        try (InputStream inputStream = new FileInputStream(pack.getFile())) {
-            inputStream.skip(offset);
-            inputStream.read(packData, 0, packData.length);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-
+        byte[] packData = pack.getChunk(packet.getChunkIndex());
         data.setData(packData);
+        synchronized (this) {
+            packBytesSent += packData.length;
+            lastChunkRequestTime = System.currentTimeMillis();
+        }
 
         session.sendUpstreamPacket(data);
         return true;
     }
+
+    /**
+     * Reserve a resource pack download slot for this session if it doesn't already hold one.
+     *
+     * @return false if all download slots are in use
+     */
+    private synchronized boolean startPackDownload() {
+        if (downloadingPacks) {
+            return true;
+        }
+        if (!ResourcePack.tryStartDownload()) {
+            return false;
+        }
+        downloadingPacks = true;
+        packDownloadStartTime = System.currentTimeMillis();
+        lastChunkRequestTime = packDownloadStartTime;
+        packBytesSent = 0;
+        if (!disconnectHandlerAdded) {
+            // Make sure the slot is freed if the player leaves mid-download
+            session.getUpstream().getSession().addDisconnectHandler(reason -> finishPackDownload());
+            disconnectHandlerAdded = true;
+        }
+        schedulePackDownloadTimeout();
+        return true;
+    }
+
+    /**
+     * Release the download slot if the session stops requesting chunks, such as a client that stalls mid-download.
+     * It gets a slot again if it requests another chunk.
+     */
+    private void schedulePackDownloadTimeout() {
+        connector.getGeneralThreadPool().schedule(() -> {
+            synchronized (this) {
+                if (!downloadingPacks) {
+                    return;
+                }
+                if (System.currentTimeMillis() - lastChunkRequestTime >= PACK_DOWNLOAD_TIMEOUT_MILLIS) {
+                    connector.getLogger().debug("Releasing the resource pack download slot of " + session.getAuthData().getName()
+                            + " as no chunks were requested for " + PACK_DOWNLOAD_TIMEOUT_MILLIS + "ms");
+                    finishPackDownload();
+                } else {
+                    schedulePackDownloadTimeout();
+                }
+            }
+        }, PACK_DOWNLOAD_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Release this session's resource pack download slot, if it holds one, and log the transfer rate
+     */
+    private synchronized void finishPackDownload() {
+        if (!downloadingPacks) {
+            return;
+        }
+        downloadingPacks = false;
+        ResourcePack.finishDownload();
+
+        long time = Math.max(1, System.currentTimeMillis() - packDownloadStartTime);
+        connector.getLogger().debug("Sent " + packBytesSent + " bytes of resource packs to " + session.getAuthData().getName()
+                + " in " + time + "ms (" + (packBytesSent / time) + " KB/s, " + ResourcePack.getActiveDownloads()
+                + " downloads in progress, " + ResourcePack.getBytesSent() + " bytes sent in total)");
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+package org.geysermc.connector.network.session;
+
+import com.nukkitx.protocol.bedrock.BedrockPacket;
+import com.nukkitx.protocol.bedrock.packet.*;
+import lombok.Getter;
+import org.geysermc.connector.GeyserConnector;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Chooses the zlib compression level of a session's batches. Clients on the same machine or with a very low latency
+ * get cheap compression since bandwidth is plentiful, clients with a high latency get stronger compression, and the
+ * level is lowered for everyone while the machine is short on CPU. Bedrock 1.16 only supports zlib, so the level is
+ * the only thing to choose.
+ */
+public class CompressionManager {
+    /**
+     * Timestamp of the {@link NetworkStackLatencyPacket} used to measure latency. Forwarded Java keep alive IDs are
+     * multiplied by 1000 and can't reach this value in practice.
+     */
+    private static final long LATENCY_PROBE_TIMESTAMP = -(1L << 60);
+    /**
+     * How often to measure latency and choose the level again, in ticks
+     */
+    private static final int EVALUATE_INTERVAL_TICKS = 200;
+
+    private static final int LOCAL_LEVEL = 1;
+    private static final int LOW_LATENCY_MILLIS = 10;
+    private static final int HIGH_LATENCY_MILLIS = 150;
+    /**
+     * System load per processor above which compression is lowered
+     */
+    private static final double HIGH_LOAD = 0.9;
+
+    /**
+     * One in this many batches is also serialized without compression, to find the compression ratio
+     */
+    private static final int RATIO_SAMPLE_INTERVAL = 64;
+
+    /**
+     * Batches of at most this many packets, all of them small, are sent without compression
+     */
+    private static final int TINY_BATCH_PACKETS = 8;
+    private static final Set<Class<? extends BedrockPacket>> TINY_PACKETS = new HashSet<>(Arrays.asList(
+            AnimatePacket.class,
+            EntityEventPacket.class,
+            MoveEntityAbsolutePacket.class,
+            MoveEntityDeltaPacket.class,
+            MovePlayerPacket.class,
+            NetworkStackLatencyPacket.class,
+            SetEntityMotionPacket.class,
+            SetTimePacket.class
+    ));
+
+    private static final OperatingSystemMXBean OPERATING_SYSTEM = ManagementFactory.getOperatingSystemMXBean();
+
+    private final UpstreamSession upstream;
+    /**
+     * The level from the config. Levels below 1 are used as-is since they were chosen explicitly.
+     */
+    private final int configLevel;
+    private final boolean adaptive;
+
+    /**
+     * The level chosen for normal batches
+     */
+    @Getter
+    private volatile int level;
+
+    /**
+     * Round trip time of the last latency probe, or -1 if it hasn't been measured yet
+     */
+    @Getter
+    private volatile long latency = -1;
+    private volatile long probeSentTime = -1;
+    private int ticks = 0;
+
+    @Getter
+    private long tinyBatches = 0;
+    /**
+     * Time spent serializing and compressing batches, in nanoseconds
+     */
+    @Getter
+    private long compressionTime = 0;
+    @Getter
+    private long compressedBytes = 0;
+    private long batches = 0;
+    /**
+     * Sizes of the sampled batches with and without compression
+     */
+    private long sampledCompressedBytes = 0;
+    private long sampledUncompressedBytes = 0;
+
+    public CompressionManager(UpstreamSession upstream) {
+        this.upstream = upstream;
+        this.configLevel = GeyserConnector.getInstance().getConfig().getBedrock().getCompressionLevel();
+        this.adaptive = GeyserConnector.getInstance().getConfig().getBedrock().isAdaptiveCompression() && configLevel > 0;
+        // Set by ConnectorServerEventHandler
+        this.level = configLevel;
+        evaluate();
+    }
+
+    public void tick() {
+        if (!adaptive || ++ticks < EVALUATE_INTERVAL_TICKS) {
+            return;
+        }
+        ticks = 0;
+        evaluate();
+
+        if (probeSentTime == -1) {
+            NetworkStackLatencyPacket latencyPacket = new NetworkStackLatencyPacket();
+            latencyPacket.setFromServer(true);
+            latencyPacket.setTimestamp(LATENCY_PROBE_TIMESTAMP);
+            probeSentTime = System.currentTimeMillis();
+            upstream.sendPacket(latencyPacket);
+        }
+    }
+
+    /**
+     * @param timestamp the timestamp of a {@link NetworkStackLatencyPacket} sent by the client
+     * @return true if the packet answered our latency probe and should not be forwarded to the Java server
+     */
+    public boolean handleLatencyResponse(long timestamp) {
+        // Some platforms divide the timestamp by 1000 before sending it back
+        if (timestamp != LATENCY_PROBE_TIMESTAMP && timestamp != LATENCY_PROBE_TIMESTAMP / 1000) {
+            return false;
+        }
+        if (probeSentTime != -1) {
+            latency = System.currentTimeMillis() - probeSentTime;
+            probeSentTime = -1;
+        }
+        return true;
+    }
+
+    /**
+     * Choose the level for normal batches from the client's latency and the load of the machine. Only loopback
+     * addresses are trusted to be local, as every player appears on a private address behind a NAT, a container
+     * network or a proxy without PROXY protocol.
+     */
+    private void evaluate() {
+        if (!adaptive) {
+            return;
+        }
+        int newLevel = configLevel;
+
+        InetSocketAddress address = upstream.getAddress();
+        InetAddress inetAddress = address == null ? null : address.getAddress();
+        boolean local = inetAddress != null && inetAddress.isLoopbackAddress();
+        if (local || (latency != -1 && latency < LOW_LATENCY_MILLIS)) {
+            newLevel = LOCAL_LEVEL;
+        } else if (latency > HIGH_LATENCY_MILLIS) {
+            newLevel += 2;
+        }
+
+        // Not available on every platform, in which case it is negative
+        double load = OPERATING_SYSTEM.getSystemLoadAverage() / OPERATING_SYSTEM.getAvailableProcessors();
+        if (load > HIGH_LOAD) {
+            newLevel -= 2;
+        }
+
+        newLevel = Math.max(LOCAL_LEVEL, Math.min(newLevel, 9));
+        if (newLevel != level) {
+            GeyserConnector.getInstance().getLogger().debug("Changing compression level of " + address + " from " + level +
+                    " to " + newLevel + " (latency " + latency + "ms, load " + String.format("%.2f", load) + ")");
+            level = newLevel;
+        }
+    }
+
+    /**
+     * @param packets the packets in a batch about to be sent
+     * @return the compression level to use for the batch
+     */
+    int getBatchLevel(List<BedrockPacket> packets) {
+        if (adaptive && isTinyBatch(packets)) {
+            // Compressing a few bytes costs more CPU than it saves bandwidth
+            tinyBatches++;
+            return 0;
+        }
+        return level;
+    }
+
+    /**
+     * Record a compressed batch.
+     *
+     * @param bytes the compressed size of the batch
+     * @param nanos the time spent serializing and compressing the batch
+     * @return true if the batch should also be serialized without compression with {@link #recordRatioSample}
+     */
+    boolean recordBatch(int bytes, long nanos) {
+        compressedBytes += bytes;
+        compressionTime += nanos;
+        return batches++ % RATIO_SAMPLE_INTERVAL == 0;
+    }
+
+    void recordRatioSample(int uncompressedBytes, int compressedBytes) {
+        sampledUncompressedBytes += uncompressedBytes;
+        sampledCompressedBytes += compressedBytes;
+    }
+
+    /**
+     * @return the compressed size of sampled batches divided by their size without compression, or 1 if no batches
+     * were sampled
+     */
+    public double getCompressionRatio() {
+        return sampledUncompressedBytes == 0 ? 1 : (double) sampledCompressedBytes / sampledUncompressedBytes;
+    }
+
+    private static boolean isTinyBatch(List<BedrockPacket> packets) {
+        if (packets.size() > TINY_BATCH_PACKETS) {
+            return false;
+        }
+        for (BedrockPacket packet : packets) {
+            if (!TINY_PACKETS.contains(packet.getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
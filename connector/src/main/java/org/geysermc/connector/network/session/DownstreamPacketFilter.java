@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+package org.geysermc.connector.network.session;
+
+import com.github.steveice10.mc.protocol.MinecraftProtocol;
+import com.github.steveice10.packetlib.io.NetInput;
+import com.github.steveice10.packetlib.io.NetOutput;
+import com.github.steveice10.packetlib.packet.Packet;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.network.translators.PacketTranslatorRegistry;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registers {@link SkippedPacket} in place of the Java packets Geyser ignores, so they are skipped over when received
+ * instead of being decoded into objects that are thrown away straight after.
+ */
+public class DownstreamPacketFilter {
+    private static final AtomicLong SKIPPED_PACKETS = new AtomicLong();
+    private static final AtomicLong SKIPPED_BYTES = new AtomicLong();
+
+    /**
+     * IDs of the ignored packets in the game state, found the first time a session logs in
+     */
+    private static IntList ignoredIds = null;
+
+    /**
+     * Replace the ignored packets of the protocol. Must be called again every time the protocol changes its state.
+     *
+     * @param protocol the protocol of a session in the game state
+     */
+    public static void apply(MinecraftProtocol protocol) {
+        for (int id : getIgnoredIds(protocol)) {
+            protocol.registerIncoming(id, SkippedPacket.class);
+        }
+    }
+
+    private static synchronized IntList getIgnoredIds(MinecraftProtocol protocol) {
+        if (ignoredIds == null) {
+            ignoredIds = new IntArrayList();
+            // Packet IDs are a VarInt, but the game state doesn't use more than one byte
+            for (int id = 0; id < 256; id++) {
+                Packet packet;
+                try {
+                    packet = protocol.createIncomingPacket(id);
+                } catch (RuntimeException e) {
+                    // Unregistered ID
+                    continue;
+                }
+                if (PacketTranslatorRegistry.isIgnored(packet.getClass())) {
+                    ignoredIds.add(id);
+                }
+            }
+            GeyserConnector.getInstance().getLogger().debug("Skipping Java packet IDs " + ignoredIds);
+        }
+        return ignoredIds;
+    }
+
+    public static long getSkippedPackets() {
+        return SKIPPED_PACKETS.get();
+    }
+
+    public static long getSkippedBytes() {
+        return SKIPPED_BYTES.get();
+    }
+
+    /**
+     * Takes the place of an ignored packet. Reading it only moves past its contents.
+     */
+    public static class SkippedPacket implements Packet {
+        private static final ThreadLocal<byte[]> SKIP_BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+
+        @Override
+        public void read(NetInput in) throws IOException {
+            byte[] buffer = SKIP_BUFFER.get();
+            int skipped = 0;
+            int available;
+            while ((available = in.available()) > 0) {
+                int read = in.readBytes(buffer, 0, Math.min(available, buffer.length));
+                if (read <= 0) {
+                    break;
+                }
+                skipped += read;
+            }
+            SKIPPED_PACKETS.incrementAndGet();
+            SKIPPED_BYTES.addAndGet(skipped);
+        }
+
+        @Override
+        public void write(NetOutput out) {
+            throw new UnsupportedOperationException("Skipped packets can't be sent");
+        }
+
+        @Override
+        public boolean isPriority() {
+            return false;
+        }
+    }
+}
@@ -59,13 +59,9 @@ import com.nukkitx.protocol.bedrock.data.command.CommandPermission;
 import com.nukkitx.protocol.bedrock.data.entity.EntityData;
 import com.nukkitx.protocol.bedrock.data.entity.EntityFlag;
 import com.nukkitx.protocol.bedrock.packet.*;
-import com.nukkitx.protocol.bedrock.v431.Bedrock_v431;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -86,17 +82,18 @@ import org.geysermc.connector.entity.player.SessionPlayerEntity;
 import org.geysermc.connector.entity.player.SkullPlayerEntity;
 import org.geysermc.connector.inventory.Inventory;
 import org.geysermc.connector.inventory.PlayerInventory;
+import org.geysermc.connector.network.LoginPackets;
 import org.geysermc.connector.network.session.auth.AuthData;
 import org.geysermc.connector.network.session.auth.BedrockClientData;
 import org.geysermc.connector.network.session.cache.*;
-import org.geysermc.connector.network.translators.BiomeTranslator;
-import org.geysermc.connector.network.translators.EntityIdentifierRegistry;
 import org.geysermc.connector.network.translators.PacketTranslatorRegistry;
 import org.geysermc.connector.network.translators.chat.MessageTranslator;
 import org.geysermc.connector.network.translators.collision.CollisionManager;
 import org.geysermc.connector.network.translators.inventory.InventoryTranslator;
 import org.geysermc.connector.network.translators.item.ItemRegistry;
+import org.geysermc.connector.network.translators.java.world.JavaSpawnParticleTranslator;
 import org.geysermc.connector.network.translators.world.block.BlockTranslator;
+import org.geysermc.connector.skin.SkinDeliveryQueue;
 import org.geysermc.connector.skin.SkinManager;
 import org.geysermc.connector.utils.*;
 import org.geysermc.floodgate.util.BedrockData;
@@ -140,10 +137,13 @@ public class GeyserSession implements CommandSender {
     private final SessionPlayerEntity playerEntity;
 
     private AdvancementsCache advancementsCache;
+    private BlockEntityStateCache blockEntityStateCache;
     private BookEditCache bookEditCache;
     private ChunkCache chunkCache;
     private EntityCache entityCache;
     private EntityEffectCache effectCache;
+    private final MapCache mapCache;
+    private final SkinDeliveryQueue skinDeliveryQueue;
     private final PreferencesCache preferencesCache;
     private final TagCache tagCache;
     private WorldCache worldCache;
@@ -185,7 +185,6 @@ public class GeyserSession implements CommandSender {
     private BlockTranslator blockTranslator;
 
     private final Map<Vector3i, SkullPlayerEntity> skullCache = new ConcurrentHashMap<>();
-    private final Long2ObjectMap<ClientboundMapItemDataPacket> storedMaps = Long2ObjectMaps.synchronize(new Long2ObjectOpenHashMap<>());
 
     /**
      * A map of Vector3i positions to Java entities.
@@ -325,6 +324,15 @@ public class GeyserSession implements CommandSender {
     @Setter
     private long lastHitTime;
 
+    /**
+     * The tick, counted in milliseconds since the epoch divided by 50, that {@link #particlesThisTick} is counting for.
+     * Used to limit how many particles are sent to the client every tick.
+     */
+    @Setter
+    private long particleTick;
+    @Setter
+    private int particlesThisTick;
+
     /**
      * Saves if the client is steering left on a boat.
      */
@@ -448,10 +456,13 @@ public class GeyserSession implements CommandSender {
         this.upstream = new UpstreamSession(bedrockServerSession);
 
         this.advancementsCache = new AdvancementsCache(this);
+        this.blockEntityStateCache = new BlockEntityStateCache();
         this.bookEditCache = new BookEditCache(this);
         this.chunkCache = new ChunkCache(this);
         this.entityCache = new EntityCache(this);
         this.effectCache = new EntityEffectCache();
+        this.mapCache = new MapCache();
+        this.skinDeliveryQueue = new SkinDeliveryQueue(this);
         this.preferencesCache = new PreferencesCache(this);
         this.tagCache = new TagCache();
         this.worldCache = new WorldCache(this);
@@ -502,30 +513,15 @@ public class GeyserSession implements CommandSender {
         // Set the hardcoded shield ID to the ID we just defined in StartGamePacket
         upstream.getSession().getHardcodedBlockingId().set(ItemRegistry.SHIELD.getBedrockId());
 
-        if (ItemRegistry.FURNACE_MINECART_DATA != null) {
-            ItemComponentPacket componentPacket = new ItemComponentPacket();
-            componentPacket.getItems().add(ItemRegistry.FURNACE_MINECART_DATA);
+        ItemComponentPacket componentPacket = LoginPackets.getItemComponentPacket();
+        if (componentPacket != null) {
             upstream.sendPacket(componentPacket);
         }
 
         ChunkUtils.sendEmptyChunks(this, playerEntity.getPosition().toInt(), 0, false);
 
-        BiomeDefinitionListPacket biomeDefinitionListPacket = new BiomeDefinitionListPacket();
-        biomeDefinitionListPacket.setDefinitions(BiomeTranslator.BIOMES);
-        upstream.sendPacket(biomeDefinitionListPacket);
-
-        AvailableEntityIdentifiersPacket entityPacket = new AvailableEntityIdentifiersPacket();
-        entityPacket.setIdentifiers(EntityIdentifierRegistry.ENTITY_IDENTIFIERS);
-        upstream.sendPacket(entityPacket);
-
-        CreativeContentPacket creativePacket = new CreativeContentPacket();
-        if (upstream.getSession().getPacketCodec().getProtocolVersion() < Bedrock_v431.V431_CODEC.getProtocolVersion()) {
-            creativePacket.setContents(ItemRegistry.getPre1_16_220CreativeContents());
-        } else {
-            // No additional work required
-            creativePacket.setContents(ItemRegistry.CREATIVE_ITEMS);
-        }
-        upstream.sendPacket(creativePacket);
+        // Biome definitions, entity identifiers and creative contents are shared between all sessions on this version
+        upstream.sendCompressedBatch(LoginPackets.getCompressedStaticPackets(upstream.getSession()));
 
         PlayStatusPacket playStatusPacket = new PlayStatusPacket();
         playStatusPacket.setStatus(PlayStatusPacket.Status.PLAYER_SPAWN);
@@ -766,7 +762,7 @@ public class GeyserSession implements CommandSender {
 
                 // Let the user know there locale may take some time to download
                 // as it has to be extracted from a JAR
-                if (locale.equalsIgnoreCase("en_us") && !LocaleUtils.LOCALE_MAPPINGS.containsKey("en_us")) {
+                if (locale.equalsIgnoreCase("en_us") && !LocaleUtils.isLocaleLoaded("en_us")) {
                     // This should probably be left hardcoded as it will only show for en_us clients
                     sendMessage("Loading your locale (en_us); if this isn't already downloaded, this may take some time");
                 }
@@ -783,6 +779,8 @@ public class GeyserSession implements CommandSender {
                 if (event.getCause() != null) {
                     event.getCause().printStackTrace();
                 }
+                connector.getLogger().debug("Skipped decoding " + DownstreamPacketFilter.getSkippedPackets() + " ignored Java packets (" +
+                        DownstreamPacketFilter.getSkippedBytes() + " bytes) across all sessions");
 
                 upstream.disconnect(MessageTranslator.convertMessageLenient(event.getReason()));
             }
@@ -796,6 +794,9 @@ public class GeyserSession implements CommandSender {
                         playerEntity.setUsername(profile.getName());
                         playerEntity.setUuid(profile.getId());
 
+                        // The protocol has just switched to the game state
+                        DownstreamPacketFilter.apply(protocol);
+
                         // Check if they are not using a linked account
                         if (remoteAuthType == AuthType.OFFLINE || playerEntity.getUuid().getMostSignificantBits() == 0) {
                             SkinManager.handleBedrockSkin(playerEntity, clientData);
@@ -832,6 +833,8 @@ public class GeyserSession implements CommandSender {
                 connector.getPlayers().remove(this);
                 upstream.disconnect(reason);
             }
+            connector.getLogger().debug("Dropped " + JavaSpawnParticleTranslator.getDroppedParticles() + " particles over budget and merged " +
+                    JavaSpawnParticleTranslator.getMergedParticles() + " identical particles across all sessions");
         }
 
         if (tickThread != null) {
@@ -839,6 +842,7 @@ public class GeyserSession implements CommandSender {
         }
 
         this.advancementsCache = null;
+        this.blockEntityStateCache = null;
         this.bookEditCache = null;
         this.chunkCache = null;
         this.entityCache = null;
@@ -873,6 +877,9 @@ public class GeyserSession implements CommandSender {
         for (Tickable entity : entityCache.getTickableEntities()) {
             entity.tick(this);
         }
+
+        skinDeliveryQueue.tick();
+        upstream.getCompressionManager().tick();
     }
 
     public void setAuthenticationData(AuthData authData) {
@@ -27,33 +27,162 @@ package org.geysermc.connector.network.session;
 
 import com.nukkitx.protocol.bedrock.BedrockPacket;
 import com.nukkitx.protocol.bedrock.BedrockServerSession;
+import com.nukkitx.protocol.bedrock.wrapper.BedrockWrapperSerializer;
+import com.nukkitx.protocol.bedrock.wrapper.BedrockWrapperSerializers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.internal.ThreadExecutorMap;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.geysermc.connector.GeyserConnector;
 
+import javax.crypto.SecretKey;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
-@RequiredArgsConstructor
 public class UpstreamSession {
+    /**
+     * Batches and packets sent by all sessions, to find the average amount of packets in a batch
+     */
+    private static final AtomicLong TOTAL_BATCHES = new AtomicLong();
+    private static final AtomicLong TOTAL_PACKETS = new AtomicLong();
+
     @Getter private final BedrockServerSession session;
+    @Getter
+    private final CompressionManager compressionManager;
     @Getter @Setter
     private boolean initialized = false;
 
+    /**
+     * Packets waiting to be sent in the next batch
+     */
+    private List<BedrockPacket> queuedPackets = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    @Getter
+    private long batchesSent = 0;
+    @Getter
+    private long packetsSent = 0;
+
+    public UpstreamSession(BedrockServerSession session) {
+        this.session = session;
+        this.compressionManager = new CompressionManager(this);
+    }
+
+    /**
+     * Queue a packet to be sent in one batch with every other packet sent during the same Netty read, such as all
+     * packets translated from one read of Java packets.
+     */
     public void sendPacket(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
-            session.sendPacket(packet);
+            synchronized (this) {
+                queuedPackets.add(packet);
+                if (!flushScheduled) {
+                    flushScheduled = true;
+                    // Tasks on an event loop run once it's done reading, so everything from this read is batched together
+                    Executor executor = ThreadExecutorMap.currentExecutor();
+                    if (executor == null) {
+                        executor = GeyserConnector.getInstance().getGeneralThreadPool();
+                    }
+                    executor.execute(this::flush);
+                }
+            }
         }
     }
 
     public void sendPacketImmediately(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
-            session.sendPacketImmediately(packet);
+            synchronized (this) {
+                // Anything queued has to be sent first to keep the order
+                flush();
+                // Sent on its own and without encryption, like the handshake right after encryption is enabled
+                session.sendPacketImmediately(packet);
+            }
         }
     }
 
+    /**
+     * Send a batch that was already serialized and compressed, after everything queued so far.
+     *
+     * @param compressed the compressed batch, which is released once sent
+     */
+    public synchronized void sendCompressedBatch(@NonNull ByteBuf compressed) {
+        flush();
+        if (isClosed()) {
+            compressed.release();
+            return;
+        }
+        session.sendWrapped(compressed, true);
+    }
+
+    /**
+     * Send everything queued so far without encryption, then encrypt every packet after.
+     *
+     * @param secretKey the key shared with the client
+     */
+    public synchronized void enableEncryption(@NonNull SecretKey secretKey) {
+        flush();
+        session.enableEncryption(secretKey);
+    }
+
+    /**
+     * Send all queued packets to the client as one batch
+     */
+    public synchronized void flush() {
+        flushScheduled = false;
+        if (queuedPackets.isEmpty()) {
+            return;
+        }
+        List<BedrockPacket> packets = queuedPackets;
+        queuedPackets = new ArrayList<>();
+        if (isClosed()) {
+            return;
+        }
+
+        int level = compressionManager.getBatchLevel(packets);
+        BedrockWrapperSerializer serializer = BedrockWrapperSerializers.getSerializer(session.getPacketCodec().getProtocolVersion());
+        long startTime = System.nanoTime();
+        ByteBuf compressed = ByteBufAllocator.DEFAULT.ioBuffer();
+        try {
+            serializer.serialize(compressed, session.getPacketCodec(), packets, level, session);
+        } catch (RuntimeException e) {
+            compressed.release();
+            throw e;
+        }
+        if (compressionManager.recordBatch(compressed.readableBytes(), System.nanoTime() - startTime)) {
+            // Level 0 only stores the data, so this is the size without compression
+            ByteBuf uncompressed = ByteBufAllocator.DEFAULT.ioBuffer();
+            try {
+                serializer.serialize(uncompressed, session.getPacketCodec(), packets, 0, session);
+                compressionManager.recordRatioSample(uncompressed.readableBytes(), compressed.readableBytes());
+            } finally {
+                uncompressed.release();
+            }
+        }
+        // Releases the buffer
+        session.sendWrapped(compressed, true);
+
+        batchesSent++;
+        packetsSent += packets.size();
+        TOTAL_BATCHES.incrementAndGet();
+        TOTAL_PACKETS.addAndGet(packets.size());
+    }
+
     public void disconnect(String reason) {
+        flush();
         session.disconnect(reason);
+
+        GeyserConnector.getInstance().getLogger().debug("Sent " + packetsSent + " packets in " + batchesSent + " batches to " +
+                getAddress() + String.format(" (%.1f packets per batch across all sessions)", getAveragePacketsPerBatch()));
+        GeyserConnector.getInstance().getLogger().debug(String.format("Compression level %d for %s: %dKB sent, %.0f%% compression ratio, " +
+                        "%d uncompressed tiny batches, %.1fus per batch spent compressing",
+                compressionManager.getLevel(), getAddress(), compressionManager.getCompressedBytes() / 1024,
+                compressionManager.getCompressionRatio() * 100, compressionManager.getTinyBatches(),
+                batchesSent == 0 ? 0 : compressionManager.getCompressionTime() / 1000d / batchesSent));
     }
 
     public boolean isClosed() {
@@ -63,4 +192,12 @@ public class UpstreamSession {
     public InetSocketAddress getAddress() {
         return session.getRealAddress();
     }
+
+    /**
+     * @return the average amount of packets in a batch sent to any client
+     */
+    public static double getAveragePacketsPerBatch() {
+        long batches = TOTAL_BATCHES.get();
+        return batches == 0 ? 0 : (double) TOTAL_PACKETS.get() / batches;
+    }
 }
@@ -38,9 +38,7 @@ import org.geysermc.connector.utils.GeyserAdvancement;
 import org.geysermc.connector.utils.LanguageUtils;
 import org.geysermc.connector.utils.LocaleUtils;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class AdvancementsCache {
 
@@ -50,13 +48,19 @@ public class AdvancementsCache {
     public static final int ADVANCEMENT_INFO_FORM_ID = 1343;
 
     /**
-     * Stores the player's advancement progress
+     * Stores the player's advancement progress as the obtained criteria of each stored advancement.
+     * See {@link GeyserAdvancement#toCriteriaBits(Collection)}.
      */
     @Getter
-    private final Map<String, Map<String, Long>> storedAdvancementProgress = new HashMap<>();
+    private final Map<String, BitSet> storedAdvancementProgress = new HashMap<>();
 
     /**
-     * Stores advancements for the player.
+     * Stores the names of the obtained criteria for advancements that aren't stored, until they are.
+     */
+    private final Map<String, Set<String>> pendingAdvancementProgress = new HashMap<>();
+
+    /**
+     * Stores advancements for the player. The advancements themselves are shared with other sessions.
      */
     @Getter
     private final Map<String, GeyserAdvancement> storedAdvancements = new HashMap<>();
@@ -73,6 +77,73 @@ public class AdvancementsCache {
         this.session = session;
     }
 
+    /**
+     * Remove all advancements and progress
+     */
+    public void clear() {
+        storedAdvancements.clear();
+        storedAdvancementProgress.clear();
+        pendingAdvancementProgress.clear();
+    }
+
+    /**
+     * Store an advancement, keeping the progress the player already has for it
+     *
+     * @param advancement the advancement to store
+     */
+    public void storeAdvancement(GeyserAdvancement advancement) {
+        GeyserAdvancement oldAdvancement = storedAdvancements.put(advancement.getId(), advancement);
+
+        Set<String> obtainedCriteria = pendingAdvancementProgress.remove(advancement.getId());
+        if (obtainedCriteria == null && oldAdvancement != null && oldAdvancement != advancement) {
+            // The criteria may have changed, so the progress has to be translated to the new indexes
+            BitSet criteriaBits = storedAdvancementProgress.get(advancement.getId());
+            if (criteriaBits != null) {
+                obtainedCriteria = oldAdvancement.fromCriteriaBits(criteriaBits);
+            }
+        }
+        if (obtainedCriteria != null) {
+            storedAdvancementProgress.put(advancement.getId(), advancement.toCriteriaBits(obtainedCriteria));
+        }
+    }
+
+    /**
+     * Remove an advancement, keeping the progress in case it is stored again
+     *
+     * @param advancementId the ID of the advancement
+     */
+    public void removeAdvancement(String advancementId) {
+        GeyserAdvancement advancement = storedAdvancements.remove(advancementId);
+        BitSet criteriaBits = storedAdvancementProgress.remove(advancementId);
+        if (advancement != null && criteriaBits != null) {
+            pendingAdvancementProgress.put(advancementId, advancement.fromCriteriaBits(criteriaBits));
+        }
+    }
+
+    /**
+     * Store the progress of an advancement, replacing the previous progress
+     *
+     * @param advancementId the ID of the advancement
+     * @param progress the time each criterion was obtained, or -1 if it hasn't been obtained
+     */
+    public void storeProgress(String advancementId, Map<String, Long> progress) {
+        Set<String> obtainedCriteria = new HashSet<>();
+        for (Map.Entry<String, Long> criterion : progress.entrySet()) {
+            // -1 means that this particular component required for completing the advancement
+            // has yet to be fulfilled
+            if (criterion.getValue() != null && criterion.getValue() != -1L) {
+                obtainedCriteria.add(criterion.getKey());
+            }
+        }
+
+        GeyserAdvancement advancement = storedAdvancements.get(advancementId);
+        if (advancement != null) {
+            storedAdvancementProgress.put(advancementId, advancement.toCriteriaBits(obtainedCriteria));
+        } else {
+            pendingAdvancementProgress.put(advancementId, obtainedCriteria);
+        }
+    }
+
     /**
      * Build a form with all advancement categories
      *
@@ -179,34 +250,8 @@ public class AdvancementsCache {
      * @return true if the advancement has been earned.
      */
     public boolean isEarned(GeyserAdvancement advancement) {
-        boolean earned = false;
-        if (advancement.getRequirements().size() == 0) {
-            // Minecraft handles this case, so we better as well
-            return false;
-        }
-        Map<String, Long> progress = storedAdvancementProgress.get(advancement.getId());
-        if (progress != null) {
-            // Each advancement's requirement must be fulfilled
-            // For example, [[zombie, blaze, skeleton]] means that one of those three categories must be achieved
-            // But [[zombie], [blaze], [skeleton]] means that all three requirements must be completed
-            for (List<String> requirements : advancement.getRequirements()) {
-                boolean requirementsDone = false;
-                for (String requirement : requirements) {
-                    Long obtained = progress.get(requirement);
-                    // -1 means that this particular component required for completing the advancement
-                    // has yet to be fulfilled
-                    if (obtained != null && !obtained.equals(-1L)) {
-                        requirementsDone = true;
-                        break;
-                    }
-                }
-                if (!requirementsDone) {
-                    return false;
-                }
-            }
-            earned = true;
-        }
-        return earned;
+        BitSet criteriaBits = storedAdvancementProgress.get(advancement.getId());
+        return criteriaBits != null && advancement.isEarned(criteriaBits);
     }
 
     /**
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.session.cache;
+
+import com.github.steveice10.mc.protocol.data.game.entity.metadata.Position;
+import it.unimi.dsi.fastutil.longs.Long2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import org.geysermc.connector.network.translators.world.block.BlockTranslator;
+
+/**
+ * Temporarily stores the Java block states of blocks that are needed for certain block entities, until their block
+ * entity update is received. Only used if cache chunks is disabled, as the chunk cache holds this information otherwise.
+ */
+public class BlockEntityStateCache {
+    /**
+     * The most positions stored at once. If a block entity update never arrives for a position, it is eventually
+     * pushed out by newer positions.
+     */
+    private static final int MAX_SIZE = 8192;
+
+    /**
+     * Packed block positions to Java block states, in insertion order.
+     */
+    private final Long2LongLinkedOpenHashMap blockStates = new Long2LongLinkedOpenHashMap();
+
+    public BlockEntityStateCache() {
+        blockStates.defaultReturnValue(BlockTranslator.JAVA_AIR_ID);
+    }
+
+    public synchronized void put(int x, int y, int z, int blockState) {
+        long position = positionToLong(x, y, z);
+        // Move updated positions to the end so they are evicted last
+        blockStates.remove(position);
+        blockStates.put(position, blockState);
+        if (blockStates.size() > MAX_SIZE) {
+            blockStates.removeFirstLong();
+        }
+    }
+
+    /**
+     * @return the stored block state at this position, or {@link BlockTranslator#JAVA_AIR_ID} if there is none
+     */
+    public synchronized int remove(Position position) {
+        return (int) blockStates.remove(positionToLong(position.getX(), position.getY(), position.getZ()));
+    }
+
+    /**
+     * Removes every position inside of the given chunk.
+     */
+    public synchronized void removeChunk(int chunkX, int chunkZ) {
+        if (blockStates.isEmpty()) {
+            return;
+        }
+
+        ObjectIterator<Long2LongMap.Entry> iterator = blockStates.long2LongEntrySet().iterator();
+        while (iterator.hasNext()) {
+            long position = iterator.next().getLongKey();
+            if ((getX(position) >> 4) == chunkX && (getZ(position) >> 4) == chunkZ) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        blockStates.clear();
+    }
+
+    private static long positionToLong(int x, int y, int z) {
+        return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+    }
+
+    private static int getX(long position) {
+        return (int) (position >> 38);
+    }
+
+    private static int getZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
+}
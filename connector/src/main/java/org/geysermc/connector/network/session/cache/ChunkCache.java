@@ -77,6 +77,33 @@ public class ChunkCache {
         return chunks.getOrDefault(chunkPosition, null);
     }
 
+    /**
+     * @return a copy of the section array of a cached column, or null if the column is not cached
+     */
+    public Chunk[] getCachedSections(int chunkX, int chunkZ) {
+        if (!cache) {
+            return null;
+        }
+
+        Column column = this.getChunk(chunkX, chunkZ);
+        return column == null ? null : column.getChunks().clone();
+    }
+
+    /**
+     * @return the cached chunk section at these section coordinates, or null if it is not cached
+     */
+    public Chunk getChunkSection(int sectionX, int sectionY, int sectionZ) {
+        if (!cache) {
+            return null;
+        }
+
+        Column column = this.getChunk(sectionX, sectionZ);
+        if (column == null || sectionY < (MINIMUM_WORLD_HEIGHT >> 4) || sectionY > column.getChunks().length - 1) {
+            return null;
+        }
+        return column.getChunks()[sectionY];
+    }
+
     public void updateBlock(int x, int y, int z, int block) {
         if (!cache) {
             return;
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.network.session.cache;
+
+import com.nukkitx.protocol.bedrock.packet.ClientboundMapItemDataPacket;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+/**
+ * Stores the last full image of every map the session has seen, so it can be sent after the client asks for it with a
+ * {@link com.nukkitx.protocol.bedrock.packet.MapInfoRequestPacket}. Only the most recently used maps are kept.
+ */
+public class MapCache {
+    /**
+     * The most maps stored at once for a session. Each full map is 64KB of colors, though identical images are shared
+     * between sessions.
+     */
+    private static final int MAX_STORED_MAPS = 256;
+
+    private final Long2ObjectLinkedOpenHashMap<ClientboundMapItemDataPacket> storedMaps = new Long2ObjectLinkedOpenHashMap<>();
+    /**
+     * Maps whose stored image has been copied from the shared image, so partial updates can change it in place
+     */
+    private final LongSet ownedImages = new LongOpenHashSet();
+
+    /**
+     * @param mapId the unique map ID
+     * @return the stored full map, or null if the map is not stored
+     */
+    public synchronized ClientboundMapItemDataPacket getMap(long mapId) {
+        return storedMaps.getAndMoveToLast(mapId);
+    }
+
+    public synchronized boolean hasMap(long mapId) {
+        return storedMaps.containsKey(mapId);
+    }
+
+    /**
+     * Store a full map, removing the least recently used map if too many are stored.
+     *
+     * @param packet the map packet with a full 128x128 image
+     */
+    public synchronized void storeMap(ClientboundMapItemDataPacket packet) {
+        storedMaps.putAndMoveToLast(packet.getUniqueMapId(), packet);
+        // A new full image is shared between sessions again
+        ownedImages.remove(packet.getUniqueMapId());
+        if (storedMaps.size() > MAX_STORED_MAPS) {
+            ownedImages.remove(storedMaps.firstLongKey());
+            storedMaps.removeFirst();
+        }
+    }
+
+    /**
+     * @param mapId the unique map ID
+     * @return true if the stored image of the map belongs to this session only and can be modified
+     */
+    public synchronized boolean isImageOwned(long mapId) {
+        return ownedImages.contains(mapId);
+    }
+
+    /**
+     * Mark the stored image of a map as belonging to this session, after it has been copied from the shared image.
+     *
+     * @param mapId the unique map ID
+     */
+    public synchronized void setImageOwned(long mapId) {
+        ownedImages.add(mapId);
+    }
+}
@@ -26,49 +26,135 @@
 package org.geysermc.connector.network.session.cache;
 
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerDeclareTagsPacket;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
-import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.geysermc.connector.network.translators.item.ItemEntry;
 import org.geysermc.connector.registry.type.BlockMapping;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 /**
- * Manages information sent from the {@link ServerDeclareTagsPacket}. If that packet is not sent, all lists here
+ * Manages information sent from the {@link ServerDeclareTagsPacket}. If that packet is not sent, all tags here
  * will remain empty, matching Java Edition behavior.
  */
 public class TagCache {
+    /**
+     * Tags are stored as bitsets indexed by Java ID. Tags with the same members are shared between sessions, so these
+     * bitsets must never be modified.
+     */
+    private static final Cache<IntList, BitSet> SHARED_TAGS = CacheBuilder.newBuilder()
+            .weakValues()
+            .build();
+    private static final BitSet EMPTY_TAG = new BitSet(0);
+
+    private volatile Map<TagType, Map<String, BitSet>> tags = new EnumMap<>(TagType.class);
+
     /* Blocks */
-    private IntList wool = IntLists.emptyList();
+    private BitSet wool = EMPTY_TAG;
     /* Items */
-    private IntList flowers = IntLists.emptyList();
-    private IntList piglinLoved = IntLists.emptyList();
+    private BitSet flowers = EMPTY_TAG;
+    private BitSet piglinLoved = EMPTY_TAG;
 
     public void loadPacket(ServerDeclareTagsPacket packet) {
-        Map<String, int[]> blockTags = packet.getBlockTags();
-        this.wool = IntList.of(blockTags.get("minecraft:wool"));
+        Map<TagType, Map<String, BitSet>> tags = new EnumMap<>(TagType.class);
+        tags.put(TagType.BLOCK, loadTags(packet.getBlockTags()));
+        tags.put(TagType.ITEM, loadTags(packet.getItemTags()));
+        tags.put(TagType.FLUID, loadTags(packet.getFluidTags()));
+        tags.put(TagType.ENTITY, loadTags(packet.getEntityTags()));
+        this.tags = tags;
+
+        this.wool = getTag(TagType.BLOCK, "minecraft:wool");
+
+        this.flowers = getTag(TagType.ITEM, "minecraft:flowers");
+        this.piglinLoved = getTag(TagType.ITEM, "minecraft:piglin_loved");
+    }
+
+    private static Map<String, BitSet> loadTags(Map<String, int[]> packetTags) {
+        Map<String, BitSet> tags = new Object2ObjectOpenHashMap<>(packetTags.size());
+        for (Map.Entry<String, int[]> tag : packetTags.entrySet()) {
+            tags.put(tag.getKey(), toSharedTag(tag.getValue()));
+        }
+        return tags;
+    }
 
-        Map<String, int[]> itemTags = packet.getItemTags();
-        this.flowers = IntList.of(itemTags.get("minecraft:flowers"));
-        this.piglinLoved = IntList.of(itemTags.get("minecraft:piglin_loved"));
+    private static BitSet toSharedTag(int[] javaIds) {
+        // Sort so the order the server sent the members in doesn't matter
+        int[] sortedIds = javaIds.clone();
+        Arrays.sort(sortedIds);
+        try {
+            return SHARED_TAGS.get(IntArrayList.wrap(sortedIds), () -> {
+                BitSet tag = new BitSet();
+                for (int javaId : sortedIds) {
+                    if (javaId >= 0) {
+                        tag.set(javaId);
+                    }
+                }
+                return tag;
+            });
+        } catch (ExecutionException e) {
+            return EMPTY_TAG;
+        }
     }
 
     public void clear() {
-        this.wool = IntLists.emptyList();
+        this.tags = new EnumMap<>(TagType.class);
+
+        this.wool = EMPTY_TAG;
 
-        this.flowers = IntLists.emptyList();
-        this.piglinLoved = IntLists.emptyList();
+        this.flowers = EMPTY_TAG;
+        this.piglinLoved = EMPTY_TAG;
+    }
+
+    /**
+     * @param type the type of the tag
+     * @param tag the tag identifier, such as minecraft:wool
+     * @return the members of the tag by Java ID, which must not be modified. Empty if the tag doesn't exist.
+     */
+    public BitSet getTag(TagType type, String tag) {
+        Map<String, BitSet> typeTags = tags.get(type);
+        if (typeTags == null) {
+            return EMPTY_TAG;
+        }
+        return typeTags.getOrDefault(tag, EMPTY_TAG);
+    }
+
+    /**
+     * @param type the type of the tag
+     * @param tag the tag identifier, such as minecraft:wool
+     * @param javaId the Java ID of the block, item, fluid or entity type
+     * @return true if the tag exists and contains the ID
+     */
+    public boolean isInTag(TagType type, String tag, int javaId) {
+        return javaId >= 0 && getTag(type, tag).get(javaId);
     }
 
     public boolean isFlower(ItemEntry itemEntry) {
-        return flowers.contains(itemEntry.getJavaId());
+        return isInTag(flowers, itemEntry.getJavaId());
     }
 
     public boolean shouldPiglinAdmire(ItemEntry itemEntry) {
-        return piglinLoved.contains(itemEntry.getJavaId());
+        return isInTag(piglinLoved, itemEntry.getJavaId());
     }
 
     public boolean isWool(BlockMapping blockMapping) {
-        return wool.contains(blockMapping.getJavaBlockId());
+        return isInTag(wool, blockMapping.getJavaBlockId());
+    }
+
+    private static boolean isInTag(BitSet tag, int javaId) {
+        return javaId >= 0 && tag.get(javaId);
+    }
+
+    public enum TagType {
+        BLOCK,
+        ITEM,
+        FLUID,
+        ENTITY
     }
 }
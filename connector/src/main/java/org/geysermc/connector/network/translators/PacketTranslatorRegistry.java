@@ -28,17 +28,21 @@ package org.geysermc.connector.network.translators;
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerPlayerListDataPacket;
 import com.github.steveice10.mc.protocol.packet.ingame.server.world.ServerUpdateLightPacket;
 import com.github.steveice10.packetlib.packet.Packet;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.protocol.bedrock.BedrockPacket;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import org.geysermc.common.PlatformType;
 import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.network.session.DownstreamPacketFilter;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.utils.FileUtils;
 import org.geysermc.connector.utils.LanguageUtils;
 import org.reflections.Reflections;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class PacketTranslatorRegistry<T> {
     private final Map<Class<? extends T>, PacketTranslator<? extends T>> translators = new HashMap<>();
@@ -48,6 +52,18 @@ public class PacketTranslatorRegistry<T> {
 
     private static final ObjectArrayList<Class<?>> IGNORED_PACKETS = new ObjectArrayList<>();
 
+    /**
+     * Packets handled by a {@link SharedPacketTranslator} that compare by contents, so identical packets for different sessions can be matched
+     */
+    private static final Set<Class<?>> SHAREABLE_PACKETS = new ObjectOpenHashSet<>();
+    /**
+     * Recent translations from shared translators, keyed by Java packet, locale and Bedrock protocol version
+     */
+    private static final Cache<List<Object>, List<BedrockPacket>> SHARED_TRANSLATIONS = CacheBuilder.newBuilder()
+            .expireAfterWrite(1, TimeUnit.SECONDS)
+            .maximumSize(256)
+            .build();
+
     static {
         Reflections ref = GeyserConnector.getInstance().useXmlReflections() ? FileUtils.getReflections("org.geysermc.connector.network.translators") : new Reflections("org.geysermc.connector.network.translators");
 
@@ -62,6 +78,10 @@ public class PacketTranslatorRegistry<T> {
                     PacketTranslator<? extends Packet> translator = (PacketTranslator<? extends Packet>) clazz.newInstance();
 
                     JAVA_TRANSLATOR.translators.put(targetPacket, translator);
+
+                    if (translator instanceof SharedPacketTranslator && targetPacket.getMethod("equals", Object.class).getDeclaringClass() != Object.class) {
+                        SHAREABLE_PACKETS.add(targetPacket);
+                    }
                 } else if (BedrockPacket.class.isAssignableFrom(packet)) {
                     Class<? extends BedrockPacket> targetPacket = (Class<? extends BedrockPacket>) packet;
                     PacketTranslator<? extends BedrockPacket> translator = (PacketTranslator<? extends BedrockPacket>) clazz.newInstance();
@@ -70,13 +90,14 @@ public class PacketTranslatorRegistry<T> {
                 } else {
                     GeyserConnector.getInstance().getLogger().error(LanguageUtils.getLocaleStringLog("geyser.network.translator.invalid_target", clazz.getCanonicalName()));
                 }
-            } catch (InstantiationException | IllegalAccessException e) {
+            } catch (InstantiationException | IllegalAccessException | NoSuchMethodException e) {
                 GeyserConnector.getInstance().getLogger().error(LanguageUtils.getLocaleStringLog("geyser.network.translator.failed", clazz.getCanonicalName()));
             }
         }
 
         IGNORED_PACKETS.add(ServerUpdateLightPacket.class); // Light is handled on Bedrock for us
         IGNORED_PACKETS.add(ServerPlayerListDataPacket.class); // Cant be implemented in bedrock
+        IGNORED_PACKETS.add(DownstreamPacketFilter.SkippedPacket.class); // One of the above, not decoded
     }
 
     private PacketTranslatorRegistry() {
@@ -86,13 +107,25 @@ public class PacketTranslatorRegistry<T> {
         // no-op
     }
 
+    /**
+     * @param clazz the packet class
+     * @return true if the packet has no translator on purpose
+     */
+    public static boolean isIgnored(Class<?> clazz) {
+        return IGNORED_PACKETS.contains(clazz);
+    }
+
     @SuppressWarnings("unchecked")
     public <P extends T> boolean translate(Class<? extends P> clazz, P packet, GeyserSession session) {
         if (!session.getUpstream().isClosed() && !session.isClosed()) {
             try {
                 PacketTranslator<P> translator = (PacketTranslator<P>) translators.get(clazz);
                 if (translator != null) {
-                    translator.translate(packet, session);
+                    if (SHAREABLE_PACKETS.contains(clazz)) {
+                        translateShared((SharedPacketTranslator<P>) translator, packet, session);
+                    } else {
+                        translator.translate(packet, session);
+                    }
                     return true;
                 } else {
                     if ((GeyserConnector.getInstance().getPlatformType() != PlatformType.STANDALONE || !(packet instanceof BedrockPacket)) && !IGNORED_PACKETS.contains(clazz)) {
@@ -107,4 +140,12 @@ public class PacketTranslatorRegistry<T> {
         }
         return false;
     }
+
+    private static <P> void translateShared(SharedPacketTranslator<P> translator, P packet, GeyserSession session) throws Exception {
+        List<Object> cacheKey = Arrays.asList(packet, session.getLocale(), session.getUpstream().getSession().getPacketCodec().getProtocolVersion());
+        List<BedrockPacket> bedrockPackets = SHARED_TRANSLATIONS.get(cacheKey, () -> translator.translateShared(packet, session));
+        for (BedrockPacket bedrockPacket : bedrockPackets) {
+            session.sendUpstreamPacket(bedrockPacket);
+        }
+    }
 }
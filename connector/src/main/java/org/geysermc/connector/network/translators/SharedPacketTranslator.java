@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+package org.geysermc.connector.network.translators;
+
+import com.nukkitx.protocol.bedrock.BedrockPacket;
+import org.geysermc.connector.network.session.GeyserSession;
+
+import java.util.List;
+
+/**
+ * A translator whose Bedrock packets only depend on the Java packet, the session's locale and its Bedrock protocol version.
+ * When an identical packet arrives for multiple sessions in a short window, such as a broadcast on a proxy,
+ * {@link PacketTranslatorRegistry} translates it once and sends the same Bedrock packets to every session.
+ */
+public abstract class SharedPacketTranslator<T> extends PacketTranslator<T> {
+
+    @Override
+    public void translate(T packet, GeyserSession session) {
+        for (BedrockPacket bedrockPacket : translateShared(packet, session)) {
+            session.sendUpstreamPacket(bedrockPacket);
+        }
+    }
+
+    /**
+     * Translate the packet without sending it or changing the state of the session, as the result may be sent to other sessions.
+     *
+     * @param packet the Java packet
+     * @param session the session the packet was received for
+     * @return the Bedrock packets to send
+     */
+    public abstract List<BedrockPacket> translateShared(T packet, GeyserSession session);
+}
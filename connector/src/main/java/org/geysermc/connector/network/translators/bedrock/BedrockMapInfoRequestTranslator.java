@@ -41,10 +41,11 @@ public class BedrockMapInfoRequestTranslator extends PacketTranslator<MapInfoReq
     public void translate(MapInfoRequestPacket packet, GeyserSession session) {
         long mapID = packet.getUniqueMapId();
 
-        if (session.getStoredMaps().containsKey(mapID)) {
+        if (session.getMapCache().hasMap(mapID)) {
             // Delay the packet 100ms to prevent the client from ignoring the packet
             GeyserConnector.getInstance().getGeneralThreadPool().schedule(() -> {
-                ClientboundMapItemDataPacket mapPacket = session.getStoredMaps().remove(mapID);
+                // The map is kept so partial updates can be applied to it and it can be sent again if requested
+                ClientboundMapItemDataPacket mapPacket = session.getMapCache().getMap(mapID);
                 if (mapPacket != null) {
                     session.sendUpstreamPacket(mapPacket);
                 }
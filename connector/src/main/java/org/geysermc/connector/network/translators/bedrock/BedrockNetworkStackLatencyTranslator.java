@@ -33,13 +33,17 @@ import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.floodgate.util.DeviceOS;
 
 /**
- * Used to send the forwarded keep alive packet back to the server
+ * Used to send the forwarded keep alive packet back to the server, and to measure latency for the compression level
  */
 @Translator(packet = NetworkStackLatencyPacket.class)
 public class BedrockNetworkStackLatencyTranslator extends PacketTranslator<NetworkStackLatencyPacket> {
 
     @Override
     public void translate(NetworkStackLatencyPacket packet, GeyserSession session) {
+        if (session.getUpstream().getCompressionManager().handleLatencyResponse(packet.getTimestamp())) {
+            // Answer to our own latency measurement
+            return;
+        }
         if (session.getConnector().getConfig().isForwardPlayerPing()) {
             long pingId;
             // so apparently, as of 1.16.200
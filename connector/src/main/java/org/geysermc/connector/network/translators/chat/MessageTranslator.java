@@ -27,6 +27,8 @@ package org.geysermc.connector.network.translators.chat;
 
 import com.github.steveice10.mc.protocol.data.DefaultComponentSerializer;
 import com.github.steveice10.mc.protocol.data.game.scoreboard.TeamColor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -38,9 +40,8 @@ import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.utils.LanguageUtils;
 
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class MessageTranslator {
 
@@ -62,6 +63,12 @@ public class MessageTranslator {
     // Reset character
     private static final String RESET = BASE + "r";
 
+    // Converted messages by component and locale, as the same message is often sent to many players at once
+    private static final Cache<List<Object>, String> CONVERTED_MESSAGES = CacheBuilder.newBuilder()
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .maximumSize(1024)
+            .build();
+
     static {
         TEAM_FORMATS.put(TeamColor.OBFUSCATED, TextDecoration.OBFUSCATED);
         TEAM_FORMATS.put(TeamColor.BOLD, TextDecoration.BOLD);
@@ -80,22 +87,23 @@ public class MessageTranslator {
      * @return Parsed and formatted message for bedrock
      */
     public static String convertMessage(Component message, String locale) {
+        List<Object> cacheKey = Arrays.asList(message, locale);
+        String converted = CONVERTED_MESSAGES.getIfPresent(cacheKey);
+        if (converted == null) {
+            converted = convertMessageUncached(message, locale);
+            CONVERTED_MESSAGES.put(cacheKey, converted);
+        }
+        return converted;
+    }
+
+    private static String convertMessageUncached(Component message, String locale) {
         try {
             // Get a Locale from the given locale string
             Locale localeCode = Locale.forLanguageTag(locale.replace('_', '-'));
             message = RENDERER.render(message, localeCode);
 
             String legacy = LegacyComponentSerializer.legacySection().serialize(message);
-
-            // Strip strikethrough and underline as they are not supported on bedrock
-            legacy = legacy.replaceAll("\u00a7[mn]", "");
-
-            // Make color codes reset formatting like Java
-            // See https://minecraft.gamepedia.com/Formatting_codes#Usage
-            legacy = legacy.replaceAll("\u00a7([0-9a-f])", "\u00a7r\u00a7$1");
-            legacy = legacy.replaceAll("\u00a7r\u00a7r", "\u00a7r");
-
-            return legacy;
+            return toBedrockFormatting(legacy);
         } catch (Exception e) {
             GeyserConnector.getInstance().getLogger().debug(GSON_SERIALIZER.serialize(message));
             GeyserConnector.getInstance().getLogger().error("Failed to parse message", e);
@@ -104,6 +112,91 @@ public class MessageTranslator {
         }
     }
 
+    /**
+     * Strip strikethrough and underline as they are not supported on Bedrock, and make color codes reset formatting
+     * like Java (see https://minecraft.gamepedia.com/Formatting_codes#Usage) without doubling up on resets.
+     *
+     * @param legacy legacy text using section signs
+     * @return the text formatted for Bedrock
+     */
+    static String toBedrockFormatting(String legacy) {
+        if (legacy.indexOf('\u00a7') == -1) {
+            return legacy;
+        }
+
+        BedrockFormattingBuilder builder = new BedrockFormattingBuilder(legacy.length() + 16);
+        int length = legacy.length();
+        for (int i = 0; i < length; i++) {
+            char c = legacy.charAt(i);
+            if (c == '\u00a7' && i + 1 < length) {
+                char next = legacy.charAt(i + 1);
+                if (next == 'm' || next == 'n') {
+                    i++;
+                    continue;
+                }
+            }
+            builder.accept(c);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds reset codes before color codes and collapses double resets as characters are appended
+     */
+    private static final class BedrockFormattingBuilder {
+        private final StringBuilder builder;
+        /**
+         * If the last character was a section sign, which is held back until we know if it starts a color code
+         */
+        private boolean pendingSection = false;
+        /**
+         * Resets before this index were already collapsed and can't be collapsed again
+         */
+        private int collapsibleFrom = 0;
+
+        private BedrockFormattingBuilder(int capacity) {
+            this.builder = new StringBuilder(capacity);
+        }
+
+        private void accept(char c) {
+            if (pendingSection) {
+                pendingSection = false;
+                if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f')) {
+                    append('\u00a7');
+                    append('r');
+                    append('\u00a7');
+                    append(c);
+                    return;
+                }
+                append('\u00a7');
+            }
+
+            if (c == '\u00a7') {
+                pendingSection = true;
+            } else {
+                append(c);
+            }
+        }
+
+        private void append(char c) {
+            builder.append(c);
+            int length = builder.length();
+            if (c == 'r' && length - 4 >= collapsibleFrom && builder.charAt(length - 2) == '\u00a7'
+                    && builder.charAt(length - 3) == 'r' && builder.charAt(length - 4) == '\u00a7') {
+                builder.setLength(length - 2);
+                collapsibleFrom = builder.length();
+            }
+        }
+
+        private String build() {
+            if (pendingSection) {
+                pendingSection = false;
+                append('\u00a7');
+            }
+            return builder.toString();
+        }
+    }
+
     public static String convertMessage(String message, String locale) {
         return convertMessage(GSON_SERIALIZER.deserialize(message), locale);
     }
@@ -39,7 +39,6 @@ import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 import org.geysermc.connector.utils.FileUtils;
 import org.reflections.Reflections;
 
-import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.regex.Pattern;
@@ -66,11 +65,9 @@ public class CollisionTranslator {
         }
 
         // Load collision mappings file
-        InputStream stream = FileUtils.getResource("mappings/collision.json");
-
         ArrayNode collisionList;
         try {
-            collisionList = (ArrayNode) GeyserConnector.JSON_MAPPER.readTree(stream);
+            collisionList = (ArrayNode) FileUtils.readJsonResource("mappings/collision.json");
         } catch (Exception e) {
             throw new AssertionError("Unable to load collision data", e);
         }
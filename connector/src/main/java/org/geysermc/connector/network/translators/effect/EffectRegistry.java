@@ -38,7 +38,6 @@ import lombok.NonNull;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.utils.FileUtils;
 
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -71,10 +70,9 @@ public class EffectRegistry {
 
     static {
         /* Load particles */
-        InputStream particleStream = FileUtils.getResource("mappings/particles.json");
         JsonNode particleEntries;
         try {
-            particleEntries = GeyserConnector.JSON_MAPPER.readTree(particleStream);
+            particleEntries = FileUtils.readJsonResource("mappings/particles.json");
         } catch (Exception e) {
             throw new AssertionError("Unable to load particle map", e);
         }
@@ -101,10 +99,9 @@ public class EffectRegistry {
         }
 
         /* Load effects */
-        InputStream effectsStream = FileUtils.getResource("mappings/effects.json");
         JsonNode effects;
         try {
-            effects = GeyserConnector.JSON_MAPPER.readTree(effectsStream);
+            effects = FileUtils.readJsonResource("mappings/effects.json");
         } catch (Exception e) {
             throw new AssertionError("Unable to load effects mappings", e);
         }
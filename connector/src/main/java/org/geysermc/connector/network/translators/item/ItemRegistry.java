@@ -25,7 +25,6 @@
 
 package org.geysermc.connector.network.translators.item;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.steveice10.mc.protocol.data.game.entity.metadata.ItemStack;
 import com.google.common.collect.ImmutableSet;
@@ -40,6 +39,8 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
@@ -51,7 +52,6 @@ import org.geysermc.connector.utils.LanguageUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.*;
 
 /**
@@ -61,6 +61,19 @@ public class ItemRegistry {
 
     private static final Map<String, ItemEntry> JAVA_IDENTIFIER_MAP = new HashMap<>();
 
+    /**
+     * Bedrock item ID and block runtime ID -> item entry. Used for block items sent by 1.16.220+ clients.
+     */
+    private static final Long2ObjectMap<ItemEntry> BEDROCK_BLOCK_LOOKUP = new Long2ObjectOpenHashMap<>();
+    /**
+     * Bedrock item ID and damage -> item entry.
+     */
+    private static final Long2ObjectMap<ItemEntry> BEDROCK_DAMAGE_LOOKUP = new Long2ObjectOpenHashMap<>();
+    /**
+     * Bedrock item ID -> item entry, for items that match regardless of damage (potions and tipped arrows).
+     */
+    private static final Int2ObjectMap<ItemEntry> BEDROCK_WILDCARD_LOOKUP = new Int2ObjectOpenHashMap<>();
+
     /**
      * A list of all identifiers that only exist on Java. Used to prevent creative items from becoming these unintentionally.
      */
@@ -134,27 +147,25 @@ public class ItemRegistry {
 
     static {
         /* Load item palette */
-        InputStream stream = FileUtils.getResource("bedrock/runtime_item_states.json");
-
-        TypeReference<List<JsonNode>> itemEntriesType = new TypeReference<List<JsonNode>>() {
-        };
-
         // Used to get the Bedrock namespaced ID (in instances where there are small differences)
         Int2ObjectMap<String> bedrockIdToIdentifier = new Int2ObjectOpenHashMap<>();
 
         List<String> itemNames = new ArrayList<>();
 
-        List<JsonNode> itemEntries;
+        JsonNode itemEntries;
         try {
-            itemEntries = GeyserConnector.JSON_MAPPER.readValue(stream, itemEntriesType);
+            itemEntries = FileUtils.readJsonResource("bedrock/runtime_item_states.json");
         } catch (Exception e) {
             throw new AssertionError(LanguageUtils.getLocaleStringLog("geyser.toolbox.fail.runtime_bedrock"), e);
         }
 
         int lodestoneCompassId = 0;
 
+        Object2IntMap<String> bedrockIdentifierToId = new Object2IntOpenHashMap<>();
+        bedrockIdentifierToId.defaultReturnValue(-1);
         for (JsonNode entry : itemEntries) {
             ITEMS.add(new StartGamePacket.ItemEntry(entry.get("name").textValue(), (short) entry.get("id").intValue()));
+            bedrockIdentifierToId.putIfAbsent(entry.get("name").textValue(), entry.get("id").intValue());
             bedrockIdToIdentifier.put(entry.get("id").intValue(), entry.get("name").textValue());
             if (entry.get("name").textValue().equals("minecraft:lodestone_compass")) {
                 lodestoneCompassId = entry.get("id").intValue();
@@ -166,11 +177,9 @@ public class ItemRegistry {
 
         // Load creative items
         // We load this before item mappings to get overridden block runtime ID mappings
-        stream = FileUtils.getResource("bedrock/creative_items.json");
-
         JsonNode creativeItemEntries;
         try {
-            creativeItemEntries = GeyserConnector.JSON_MAPPER.readTree(stream).get("items");
+            creativeItemEntries = FileUtils.readJsonResource("bedrock/creative_items.json").get("items");
         } catch (Exception e) {
             throw new AssertionError(LanguageUtils.getLocaleStringLog("geyser.toolbox.fail.creative"), e);
         }
@@ -206,13 +215,7 @@ public class ItemRegistry {
             }
 
             String identifier = itemNode.get("id").textValue();
-            int id = -1;
-            for (StartGamePacket.ItemEntry itemEntry : ITEMS) {
-                if (itemEntry.getIdentifier().equals(identifier)) {
-                    id = itemEntry.getId();
-                    break;
-                }
-            }
+            int id = bedrockIdentifierToId.getInt(identifier);
             if (id == -1) {
                 throw new RuntimeException("Unable to find matching Bedrock item for " + identifier);
             }
@@ -240,12 +243,17 @@ public class ItemRegistry {
             }
         }
 
-        // Load item mappings from Java Edition to Bedrock Edition
-        stream = FileUtils.getResource("mappings/items.json");
+        // Group Java block states by their clean identifier, so each block item doesn't need to scan every block state
+        Map<String, List<Integer>> javaBlockStatesByIdentifier = new HashMap<>();
+        for (Map.Entry<String, Integer> blockEntry : BlockTranslator.getJavaIdBlockMap().entrySet()) {
+            javaBlockStatesByIdentifier.computeIfAbsent(blockEntry.getKey().split("\\[")[0], k -> new ArrayList<>())
+                    .add(blockEntry.getValue());
+        }
 
+        // Load item mappings from Java Edition to Bedrock Edition
         JsonNode items;
         try {
-            items = GeyserConnector.JSON_MAPPER.readTree(stream);
+            items = FileUtils.readJsonResource("mappings/items.json");
         } catch (Exception e) {
             throw new AssertionError(LanguageUtils.getLocaleStringLog("geyser.toolbox.fail.runtime_java"), e);
         }
@@ -294,40 +302,38 @@ public class ItemRegistry {
                         NbtMapBuilder requiredBlockStatesBuilder = NbtMap.builder();
                         String correctBedrockIdentifier = blockTranslator.getAllBedrockBlockStates().get(aValidBedrockBlockId).getString("name");
                         boolean firstPass = true;
-                        for (Map.Entry<String, Integer> blockEntry : BlockTranslator.getJavaIdBlockMap().entrySet()) {
-                            if (blockEntry.getKey().split("\\[")[0].equals(javaBlockIdentifier)) {
-                                int bedrockBlockRuntimeId = blockTranslator.getBedrockBlockId(blockEntry.getValue());
-                                NbtMap blockTag = blockTranslator.getAllBedrockBlockStates().get(bedrockBlockRuntimeId);
-                                String bedrockName = blockTag.getString("name");
-                                if (!bedrockName.equals(correctBedrockIdentifier)) {
-                                    continue;
-                                }
-                                NbtMap states = blockTag.getCompound("states");
+                        for (int javaBlockState : javaBlockStatesByIdentifier.getOrDefault(javaBlockIdentifier, Collections.emptyList())) {
+                            int bedrockBlockRuntimeId = blockTranslator.getBedrockBlockId(javaBlockState);
+                            NbtMap blockTag = blockTranslator.getAllBedrockBlockStates().get(bedrockBlockRuntimeId);
+                            String bedrockName = blockTag.getString("name");
+                            if (!bedrockName.equals(correctBedrockIdentifier)) {
+                                continue;
+                            }
+                            NbtMap states = blockTag.getCompound("states");
 
-                                if (firstPass) {
-                                    firstPass = false;
-                                    if (states.size() == 0) {
-                                        // No need to iterate and find all block states - this is the one, as there can't be any others
-                                        bedrockBlockId = bedrockBlockRuntimeId;
-                                        break;
-                                    }
-                                    requiredBlockStatesBuilder.putAll(states);
-                                    continue;
-                                }
-                                for (Map.Entry<String, Object> nbtEntry : states.entrySet()) {
-                                    Object value = requiredBlockStatesBuilder.get(nbtEntry.getKey());
-                                    if (value != null && !nbtEntry.getValue().equals(value)) { // Null means this value has already been removed/deemed as unneeded
-                                        // This state can change between different block states, and therefore is not required
-                                        // to build a successful block state of this
-                                        requiredBlockStatesBuilder.remove(nbtEntry.getKey());
-                                    }
-                                }
-                                if (requiredBlockStatesBuilder.size() == 0) {
-                                    // There are no required block states
-                                    // E.G. there was only a direction property that is no longer in play
-                                    // (States that are important include color for glass)
+                            if (firstPass) {
+                                firstPass = false;
+                                if (states.size() == 0) {
+                                    // No need to iterate and find all block states - this is the one, as there can't be any others
+                                    bedrockBlockId = bedrockBlockRuntimeId;
                                     break;
                                 }
+                                requiredBlockStatesBuilder.putAll(states);
+                                continue;
+                            }
+                            for (Map.Entry<String, Object> nbtEntry : states.entrySet()) {
+                                Object value = requiredBlockStatesBuilder.get(nbtEntry.getKey());
+                                if (value != null && !nbtEntry.getValue().equals(value)) { // Null means this value has already been removed/deemed as unneeded
+                                    // This state can change between different block states, and therefore is not required
+                                    // to build a successful block state of this
+                                    requiredBlockStatesBuilder.remove(nbtEntry.getKey());
+                                }
+                            }
+                            if (requiredBlockStatesBuilder.size() == 0) {
+                                // There are no required block states
+                                // E.G. there was only a direction property that is no longer in play
+                                // (States that are important include color for glass)
+                                break;
                             }
                         }
 
@@ -535,6 +541,30 @@ public class ItemRegistry {
             javaOnlyItems.add("minecraft:furnace_minecart");
         }
         JAVA_ONLY_ITEMS = ImmutableSet.copyOf(javaOnlyItems);
+
+        // Index all entries so Bedrock -> Java lookups don't need to iterate every item
+        // The iteration order here matches what the previous linear search used, so the first matching entry wins
+        for (ItemEntry itemEntry : ITEM_ENTRIES.values()) {
+            JAVA_IDENTIFIER_MAP.putIfAbsent(itemEntry.getJavaIdentifier(), itemEntry);
+            if (JAVA_ONLY_ITEMS.contains(itemEntry.getJavaIdentifier())) {
+                // From a Bedrock item data, we aren't getting one of these items
+                continue;
+            }
+
+            int bedrockId = itemEntry.getBedrockId();
+            BEDROCK_BLOCK_LOOKUP.putIfAbsent(bedrockLookupKey(bedrockId, itemEntry.getBedrockBlockId()), itemEntry);
+            // Make exceptions for potions and tipped arrows, whose damage values can vary
+            if (itemEntry.getJavaIdentifier().endsWith("potion") || itemEntry.getJavaIdentifier().equals("minecraft:arrow")) {
+                BEDROCK_WILDCARD_LOOKUP.putIfAbsent(bedrockId, itemEntry);
+            } else if (!BEDROCK_WILDCARD_LOOKUP.containsKey(bedrockId)) {
+                // If a wildcard entry was found first, it will always match before this one
+                BEDROCK_DAMAGE_LOOKUP.putIfAbsent(bedrockLookupKey(bedrockId, itemEntry.getBedrockData()), itemEntry);
+            }
+        }
+    }
+
+    private static long bedrockLookupKey(int bedrockId, int value) {
+        return ((long) bedrockId << 32) | (value & 0xFFFFFFFFL);
     }
 
     /* pre-1.16.220 support start */
@@ -588,25 +618,18 @@ public class ItemRegistry {
         boolean isBlock = data.getBlockRuntimeId() != 0;
         boolean hasDamage = data.getDamage() != 0;
 
-        for (ItemEntry itemEntry : ITEM_ENTRIES.values()) {
-            if (itemEntry.getBedrockId() == data.getId()) {
-                if (isBlock && !hasDamage) { // Pre-1.16.220 will not use block runtime IDs at all, so we shouldn't check either
-                    if (data.getBlockRuntimeId() != itemEntry.getBedrockBlockId()) {
-                        continue;
-                    }
-                } else {
-                    if (!(itemEntry.getBedrockData() == data.getDamage() ||
-                            // Make exceptions for potions and tipped arrows, whose damage values can vary
-                            (itemEntry.getJavaIdentifier().endsWith("potion") || itemEntry.getJavaIdentifier().equals("minecraft:arrow")))) {
-                        continue;
-                    }
-                }
-                if (!JAVA_ONLY_ITEMS.contains(itemEntry.getJavaIdentifier())) {
-                    // From a Bedrock item data, we aren't getting one of these items
-                    return itemEntry;
-                }
+        ItemEntry itemEntry;
+        if (isBlock && !hasDamage) { // Pre-1.16.220 will not use block runtime IDs at all, so we shouldn't check either
+            itemEntry = BEDROCK_BLOCK_LOOKUP.get(bedrockLookupKey(data.getId(), data.getBlockRuntimeId()));
+        } else {
+            itemEntry = BEDROCK_DAMAGE_LOOKUP.get(bedrockLookupKey(data.getId(), data.getDamage()));
+            if (itemEntry == null) {
+                itemEntry = BEDROCK_WILDCARD_LOOKUP.get(data.getId());
             }
         }
+        if (itemEntry != null) {
+            return itemEntry;
+        }
 
         // This will hide the message when the player clicks with an empty hand
         if (data.getId() != 0 && data.getDamage() != 0) {
@@ -623,13 +646,6 @@ public class ItemRegistry {
      * @return an item entry from the given java edition identifier
      */
     public static ItemEntry getItemEntry(String javaIdentifier) {
-        return JAVA_IDENTIFIER_MAP.computeIfAbsent(javaIdentifier, key -> {
-            for (ItemEntry entry : ITEM_ENTRIES.values()) {
-                if (entry.getJavaIdentifier().equals(key)) {
-                    return entry;
-                }
-            }
-            return null;
-        });
+        return JAVA_IDENTIFIER_MAP.get(javaIdentifier);
     }
 }
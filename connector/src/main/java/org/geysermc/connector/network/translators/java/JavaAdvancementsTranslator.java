@@ -45,26 +45,28 @@ public class JavaAdvancementsTranslator extends PacketTranslator<ServerAdvanceme
     public void translate(ServerAdvancementsPacket packet, GeyserSession session) {
         AdvancementsCache advancementsCache = session.getAdvancementsCache();
         if (packet.isReset()) {
-            advancementsCache.getStoredAdvancements().clear();
-            advancementsCache.getStoredAdvancementProgress().clear();
+            advancementsCache.clear();
         }
 
         // Removes removed advancements from player's stored advancements
         for (String removedAdvancement : packet.getRemovedAdvancements()) {
-            advancementsCache.getStoredAdvancements().remove(removedAdvancement);
+            advancementsCache.removeAdvancement(removedAdvancement);
         }
 
-        advancementsCache.getStoredAdvancementProgress().putAll(packet.getProgress());
+        for (Map.Entry<String, Map<String, Long>> progress : packet.getProgress().entrySet()) {
+            advancementsCache.storeProgress(progress.getKey(), progress.getValue());
+        }
 
         sendToolbarAdvancementUpdates(session, packet);
 
         // Adds advancements to the player's stored advancements when advancements are sent
         for (Advancement advancement : packet.getAdvancements()) {
             if (advancement.getDisplayData() != null && !advancement.getDisplayData().isHidden()) {
+                // Shared with every other session that received the same advancement
                 GeyserAdvancement geyserAdvancement = GeyserAdvancement.from(advancement);
-                advancementsCache.getStoredAdvancements().put(advancement.getId(), geyserAdvancement);
+                advancementsCache.storeAdvancement(geyserAdvancement);
             } else {
-                advancementsCache.getStoredAdvancements().remove(advancement.getId());
+                advancementsCache.removeAdvancement(advancement.getId());
             }
         }
     }
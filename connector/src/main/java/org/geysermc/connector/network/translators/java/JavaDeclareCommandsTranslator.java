@@ -28,14 +28,14 @@ package org.geysermc.connector.network.translators.java;
 import com.github.steveice10.mc.protocol.data.game.command.CommandNode;
 import com.github.steveice10.mc.protocol.data.game.command.CommandParser;
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerDeclareCommandsPacket;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.protocol.bedrock.data.command.CommandData;
 import com.nukkitx.protocol.bedrock.data.command.CommandEnumData;
 import com.nukkitx.protocol.bedrock.data.command.CommandParam;
 import com.nukkitx.protocol.bedrock.data.command.CommandParamData;
 import com.nukkitx.protocol.bedrock.packet.AvailableCommandsPacket;
 import it.unimi.dsi.fastutil.Hash;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
@@ -52,6 +52,8 @@ import org.geysermc.connector.network.translators.item.ItemRegistry;
 import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Translator(packet = ServerDeclareCommandsPacket.class)
 public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclareCommandsPacket> {
@@ -84,6 +86,24 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
         }
     };
 
+    /**
+     * Translated command packets, keyed by the description of every command in the Java packet.
+     * Players with the same permissions usually receive identical command trees, so these are shared between sessions.
+     */
+    private static final Cache<List<Object>, AvailableCommandsPacket> TRANSLATED_COMMANDS = CacheBuilder.newBuilder()
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .maximumSize(64)
+            .build();
+
+    /**
+     * Translated parameters of a single command, keyed by {@link #getParamKey(CommandNode, CommandNode[])}.
+     * Allows commands that haven't changed to be reused when a different command tree is received.
+     */
+    private static final Cache<List<Object>, CommandParamData[][]> TRANSLATED_PARAMS = CacheBuilder.newBuilder()
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .maximumSize(4096)
+            .build();
+
     static {
         List<String> validColors = new ArrayList<>(NamedTextColor.NAMES.keys());
         validColors.add("reset");
@@ -109,11 +129,11 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
         }
 
         CommandNode[] nodes = packet.getNodes();
-        List<CommandData> commandData = new ArrayList<>();
         IntSet commandNodes = new IntOpenHashSet();
         Set<String> knownAliases = new HashSet<>();
-        Map<CommandParamData[][], Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
-        Int2ObjectMap<List<CommandNode>> commandArgs = new Int2ObjectOpenHashMap<>();
+        List<CommandNode> foundCommands = new ArrayList<>();
+        List<List<Object>> paramKeys = new ArrayList<>();
+        List<Object> packetKey = new ArrayList<>();
 
         // Get the first node, it should be a root node
         CommandNode rootNode = nodes[packet.getFirstNodeIndex()];
@@ -125,15 +145,40 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
             // Make sure we don't have duplicated commands (happens if there is more than 1 root node)
             if (!commandNodes.add(nodeIndex) || !knownAliases.add(node.getName().toLowerCase())) continue;
 
-            // Get and update the commandArgs list with the found arguments
-            if (node.getChildIndices().length >= 1) {
-                for (int childIndex : node.getChildIndices()) {
-                    commandArgs.computeIfAbsent(nodeIndex, ArrayList::new).add(nodes[childIndex]);
-                }
-            }
+            List<Object> paramKey = getParamKey(node, nodes);
+            foundCommands.add(node);
+            paramKeys.add(paramKey);
+            packetKey.add(node.getName().toLowerCase());
+            packetKey.add(paramKey);
+        }
+
+        AvailableCommandsPacket availableCommandsPacket = TRANSLATED_COMMANDS.getIfPresent(packetKey);
+        if (availableCommandsPacket == null) {
+            availableCommandsPacket = buildCommandsPacket(session, nodes, foundCommands, paramKeys);
+            TRANSLATED_COMMANDS.put(packetKey, availableCommandsPacket);
+        } else {
+            session.getConnector().getLogger().debug("Reusing translated command packet of " + availableCommandsPacket.getCommands().size() + " commands");
+        }
+
+        // Finally, send the commands to the client
+        session.sendUpstreamPacket(availableCommandsPacket);
+    }
+
+    private static AvailableCommandsPacket buildCommandsPacket(GeyserSession session, CommandNode[] nodes,
+                                                               List<CommandNode> foundCommands, List<List<Object>> paramKeys) {
+        List<CommandData> commandData = new ArrayList<>();
+        Map<CommandParamData[][], Set<String>> commands = new Object2ObjectOpenCustomHashMap<>(PARAM_STRATEGY);
+
+        for (int i = 0; i < foundCommands.size(); i++) {
+            CommandNode node = foundCommands.get(i);
 
             // Get and parse all params
-            CommandParamData[][] params = getParams(nodes[nodeIndex], nodes);
+            CommandParamData[][] params;
+            try {
+                params = TRANSLATED_PARAMS.get(paramKeys.get(i), () -> getParams(node, nodes));
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Unable to translate command " + node.getName(), e.getCause());
+            }
 
             // Insert the alias name into the command list
             commands.computeIfAbsent(params, index -> new HashSet<>()).add(node.getName().toLowerCase());
@@ -160,9 +205,36 @@ public class JavaDeclareCommandsTranslator extends PacketTranslator<ServerDeclar
         availableCommandsPacket.getCommands().addAll(commandData);
 
         session.getConnector().getLogger().debug("Sending command packet of " + commandData.size() + " commands");
+        return availableCommandsPacket;
+    }
 
-        // Finally, send the commands to the client
-        session.sendUpstreamPacket(availableCommandsPacket);
+    /**
+     * Describe everything that {@link #getParams(CommandNode, CommandNode[])} reads from a command, without
+     * depending on the position of its nodes in the array. Two commands with equal keys translate to equal parameters.
+     *
+     * @param commandNode The command to describe
+     * @param allNodes    Every command node
+     * @return A list that can be compared and hashed
+     */
+    private static List<Object> getParamKey(CommandNode commandNode, CommandNode[] allNodes) {
+        if (commandNode.getRedirectIndex() != -1) {
+            commandNode = allNodes[commandNode.getRedirectIndex()];
+        }
+
+        List<Object> key = new ArrayList<>();
+        appendParamKey(key, commandNode, allNodes);
+        return key;
+    }
+
+    private static void appendParamKey(List<Object> key, CommandNode node, CommandNode[] allNodes) {
+        // The child count is included so the tree shape can't be mistaken for a different one
+        key.add(node.getName());
+        key.add(node.getParser());
+        key.add(node.isExecutable());
+        key.add(node.getChildIndices().length);
+        for (int childIndex : node.getChildIndices()) {
+            appendParamKey(key, allNodes[childIndex], allNodes);
+        }
     }
 
     /**
@@ -32,6 +32,8 @@ import com.github.steveice10.mc.protocol.data.game.recipe.data.ShapedRecipeData;
 import com.github.steveice10.mc.protocol.data.game.recipe.data.ShapelessRecipeData;
 import com.github.steveice10.mc.protocol.data.game.recipe.data.StoneCuttingRecipeData;
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerDeclareRecipesPacket;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.nbt.NbtMap;
 import com.nukkitx.protocol.bedrock.data.inventory.CraftingData;
 import com.nukkitx.protocol.bedrock.data.inventory.ItemData;
@@ -39,12 +41,15 @@ import com.nukkitx.protocol.bedrock.packet.CraftingDataPacket;
 import it.unimi.dsi.fastutil.ints.*;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.PacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.network.translators.item.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -55,15 +60,42 @@ import java.util.stream.Collectors;
 @Translator(packet = ServerDeclareRecipesPacket.class)
 public class JavaDeclareRecipesTranslator extends PacketTranslator<ServerDeclareRecipesPacket> {
 
+    /**
+     * Translated recipes, shared between every session that receives the same recipe list with the same
+     * Bedrock version and locale. Nothing stored in here should be modified after it is cached.
+     */
+    private static final Cache<RecipeCacheKey, TranslatedRecipes> TRANSLATED_RECIPES = CacheBuilder.newBuilder()
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .maximumSize(32)
+            .build();
+
     @Override
     public void translate(ServerDeclareRecipesPacket packet, GeyserSession session) {
+        RecipeCacheKey key = new RecipeCacheKey(Arrays.asList(packet.getRecipes()),
+                session.getUpstream().getSession().getPacketCodec().getProtocolVersion(), session.getLocale());
+        TranslatedRecipes translatedRecipes;
+        try {
+            translatedRecipes = TRANSLATED_RECIPES.get(key, () -> translateRecipes(packet.getRecipes(), session));
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to translate recipes", e.getCause());
+        }
+
+        session.sendUpstreamPacket(translatedRecipes.craftingDataPacket);
+        // The recipe map can be modified later on (see JavaSetSlotTranslator), so each session gets its own copy
+        session.setCraftingRecipes(new Int2ObjectOpenHashMap<>(translatedRecipes.recipeMap));
+        session.getUnlockedRecipes().clear();
+        session.setStonecutterRecipes(translatedRecipes.stonecutterRecipeMap);
+        session.getLastRecipeNetId().set(translatedRecipes.lastNetId);
+    }
+
+    private TranslatedRecipes translateRecipes(Recipe[] recipes, GeyserSession session) {
         // Get the last known network ID (first used for the pregenerated recipes) and increment from there.
         int netId = RecipeRegistry.LAST_RECIPE_NET_ID + 1;
         Int2ObjectMap<Recipe> recipeMap = new Int2ObjectOpenHashMap<>(RecipeRegistry.ALL_CRAFTING_RECIPES);
         Int2ObjectMap<List<StoneCuttingRecipeData>> unsortedStonecutterData = new Int2ObjectOpenHashMap<>();
         CraftingDataPacket craftingDataPacket = new CraftingDataPacket();
         craftingDataPacket.setCleanRecipes(true);
-        for (Recipe recipe : packet.getRecipes()) {
+        for (Recipe recipe : recipes) {
             switch (recipe.getType()) {
                 case CRAFTING_SHAPELESS: {
                     ShapelessRecipeData shapelessRecipeData = (ShapelessRecipeData) recipe.getData();
@@ -191,11 +223,7 @@ public class JavaDeclareRecipesTranslator extends PacketTranslator<ServerDeclare
             }
         }
 
-        session.sendUpstreamPacket(craftingDataPacket);
-        session.setCraftingRecipes(recipeMap);
-        session.getUnlockedRecipes().clear();
-        session.setStonecutterRecipes(stonecutterRecipeMap);
-        session.getLastRecipeNetId().set(netId);
+        return new TranslatedRecipes(craftingDataPacket, recipeMap, stonecutterRecipeMap, netId);
     }
 
     //TODO: rewrite
@@ -279,6 +307,25 @@ public class JavaDeclareRecipesTranslator extends PacketTranslator<ServerDeclare
         return combinations;
     }
 
+    /**
+     * Identifies a recipe list as translated for one Bedrock version and locale.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class RecipeCacheKey {
+        private final List<Recipe> recipes;
+        private final int protocolVersion;
+        private final String locale;
+    }
+
+    @RequiredArgsConstructor
+    private static class TranslatedRecipes {
+        private final CraftingDataPacket craftingDataPacket;
+        private final Int2ObjectMap<Recipe> recipeMap;
+        private final Int2ObjectMap<IntList> stonecutterRecipeMap;
+        private final int lastNetId;
+    }
+
     @EqualsAndHashCode
     @AllArgsConstructor
     private static class GroupedItem {
@@ -26,18 +26,22 @@
 package org.geysermc.connector.network.translators.java;
 
 import org.geysermc.connector.network.session.GeyserSession;
-import org.geysermc.connector.network.translators.PacketTranslator;
+import org.geysermc.connector.network.translators.SharedPacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.network.translators.chat.MessageTranslator;
 
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerTitlePacket;
+import com.nukkitx.protocol.bedrock.BedrockPacket;
 import com.nukkitx.protocol.bedrock.packet.SetTitlePacket;
 
+import java.util.Collections;
+import java.util.List;
+
 @Translator(packet = ServerTitlePacket.class)
-public class JavaTitleTranslator extends PacketTranslator<ServerTitlePacket> {
+public class JavaTitleTranslator extends SharedPacketTranslator<ServerTitlePacket> {
 
     @Override
-    public void translate(ServerTitlePacket packet, GeyserSession session) {
+    public List<BedrockPacket> translateShared(ServerTitlePacket packet, GeyserSession session) {
         SetTitlePacket titlePacket = new SetTitlePacket();
         String locale = session.getLocale();
 
@@ -75,6 +79,6 @@ public class JavaTitleTranslator extends PacketTranslator<ServerTitlePacket> {
                 break;
         }
 
-        session.sendUpstreamPacket(titlePacket);
+        return Collections.singletonList(titlePacket);
     }
 }
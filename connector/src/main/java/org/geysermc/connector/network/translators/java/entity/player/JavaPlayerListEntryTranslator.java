@@ -86,7 +86,11 @@ public class JavaPlayerListEntryTranslator extends PacketTranslator<ServerPlayer
                                 GeyserConnector.getInstance().getLogger().debug("Loaded Local Bedrock Java Skin Data for " + session.getClientData().getUsername()));
                     } else {
                         playerEntity.setValid(true);
-                        PlayerListPacket.Entry playerListEntry = SkinManager.buildCachedEntry(session, playerEntity);
+                        // Send the default skin first and the real skin once it's this player's turn,
+                        // so joining a busy server doesn't send every skin at once
+                        PlayerListPacket.Entry playerListEntry = SkinManager.buildDefaultEntry(session, playerEntity);
+                        session.getSkinDeliveryQueue().reset(playerEntity.getUuid());
+                        SkinManager.queueCachedSkin(session, playerEntity);
 
                         translate.getEntries().add(playerListEntry);
                     }
@@ -94,6 +98,7 @@ public class JavaPlayerListEntryTranslator extends PacketTranslator<ServerPlayer
                 case REMOVE_PLAYER:
                     // As the player entity is no longer present, we can remove the entry
                     PlayerEntity entity = session.getEntityCache().removePlayerEntity(entry.getProfile().getId());
+                    session.getSkinDeliveryQueue().reset(entry.getProfile().getId());
                     if (entity != null) {
                         // Just remove the entity's player list status
                         // Don't despawn the entity - the Java server will also take care of that.
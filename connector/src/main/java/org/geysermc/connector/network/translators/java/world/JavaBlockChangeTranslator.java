@@ -102,8 +102,7 @@ public class JavaBlockChangeTranslator extends PacketTranslator<ServerBlockChang
                 || lastInteractPos.getZ() != packet.getRecord().getPosition().getZ())) {
             return;
         }
-        String identifier = BlockTranslator.getJavaIdBlockMap().inverse().get(packet.getRecord().getBlock());
         session.setInteracting(false);
-        BlockSoundInteractionHandler.handleBlockInteraction(session, lastInteractPos.toFloat(), identifier);
+        BlockSoundInteractionHandler.handleBlockInteraction(session, lastInteractPos.toFloat(), packet.getRecord().getBlock());
     }
 }
@@ -25,8 +25,11 @@
 
 package org.geysermc.connector.network.translators.java.world;
 
+import com.github.steveice10.mc.protocol.data.game.chunk.Chunk;
 import com.github.steveice10.mc.protocol.data.game.chunk.Column;
+import com.github.steveice10.opennbt.tag.builtin.CompoundTag;
 import com.github.steveice10.mc.protocol.packet.ingame.server.world.ServerChunkDataPacket;
+import com.nukkitx.math.vector.Vector3i;
 import com.nukkitx.nbt.NBTOutputStream;
 import com.nukkitx.nbt.NbtMap;
 import com.nukkitx.nbt.NbtUtils;
@@ -35,16 +38,26 @@ import com.nukkitx.protocol.bedrock.packet.LevelChunkPacket;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufOutputStream;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.network.session.GeyserSession;
 import org.geysermc.connector.network.translators.BiomeTranslator;
 import org.geysermc.connector.network.translators.PacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
+import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 import org.geysermc.connector.network.translators.world.chunk.ChunkSection;
+import org.geysermc.connector.utils.BlockEntityUtils;
 import org.geysermc.connector.utils.ChunkUtils;
 
 @Translator(packet = ServerChunkDataPacket.class)
 public class JavaChunkDataTranslator extends PacketTranslator<ServerChunkDataPacket> {
+    /**
+     * The maximum amount of changed blocks in a non-full chunk that are sent as individual block updates.
+     * Anything above this re-sends the whole column instead.
+     */
+    private static final int MAX_BLOCK_UPDATES = 256;
+
     /**
      * Determines if we should process non-full chunks
      */
@@ -66,13 +79,22 @@ public class JavaChunkDataTranslator extends PacketTranslator<ServerChunkDataPac
             return;
         }
 
+        boolean isNonFullChunk = packet.getColumn().getBiomeData() == null;
+
+        // Keep the sections that are about to be replaced, so we can tell which blocks actually changed
+        Chunk[] previousSections = isNonFullChunk ?
+                session.getChunkCache().getCachedSections(packet.getColumn().getX(), packet.getColumn().getZ()) : null;
+
         // Merge received column with cache on network thread
         Column mergedColumn = session.getChunkCache().addToCache(packet.getColumn());
         if (mergedColumn == null) { // There were no changes?!?
             return;
         }
 
-        boolean isNonFullChunk = packet.getColumn().getBiomeData() == null;
+        if (previousSections != null && sendChangedBlocks(session, previousSections, packet.getColumn())) {
+            // Few enough blocks changed that the client doesn't need the whole column again
+            return;
+        }
 
         GeyserConnector.getInstance().getGeneralThreadPool().execute(() -> {
             try {
@@ -134,4 +156,67 @@ public class JavaChunkDataTranslator extends PacketTranslator<ServerChunkDataPac
             }
         });
     }
+
+    /**
+     * Sends the difference between the previously cached sections and a non-full chunk as block updates.
+     *
+     * @param previousSections the sections of the column before the non-full chunk was merged
+     * @param column the non-full chunk, where only changed sections are not null
+     * @return true if the changes were sent, false if too many blocks changed and the column should be sent in full
+     */
+    private boolean sendChangedBlocks(GeyserSession session, Chunk[] previousSections, Column column) {
+        Chunk[] newSections = column.getChunks();
+        if (previousSections.length != newSections.length) {
+            return false;
+        }
+
+        // Packed section Y and YZX index of every changed block, and its new block state
+        IntList changedIndices = new IntArrayList();
+        IntList changedStates = new IntArrayList();
+        for (int sectionY = 0; sectionY < newSections.length; sectionY++) {
+            Chunk newSection = newSections[sectionY];
+            if (newSection == null) {
+                // This section wasn't sent and therefore hasn't changed
+                continue;
+            }
+            Chunk previousSection = previousSections[sectionY];
+
+            for (int yzx = 0; yzx < 4096; yzx++) {
+                int x = yzx & 0xF;
+                int y = yzx >> 8;
+                int z = (yzx >> 4) & 0xF;
+                int newState = newSection.get(x, y, z);
+                int previousState = previousSection == null ? BlockTranslator.JAVA_AIR_ID : previousSection.get(x, y, z);
+                if (newState != previousState) {
+                    if (changedIndices.size() == MAX_BLOCK_UPDATES) {
+                        return false;
+                    }
+                    changedIndices.add((sectionY << 12) | yzx);
+                    changedStates.add(newState);
+                }
+            }
+        }
+
+        int baseX = column.getX() << 4;
+        int baseZ = column.getZ() << 4;
+        for (int i = 0; i < changedIndices.size(); i++) {
+            int index = changedIndices.getInt(i);
+            Vector3i position = Vector3i.from(baseX + (index & 0xF), ((index >> 12) << 4) + ((index >> 8) & 0xF), baseZ + ((index >> 4) & 0xF));
+            ChunkUtils.updateBlock(session, changedStates.getInt(i), position);
+        }
+
+        for (CompoundTag tag : column.getTileEntities()) {
+            Vector3i position = Vector3i.from((int) tag.get("x").getValue(), (int) tag.get("y").getValue(), (int) tag.get("z").getValue());
+            if (tag.contains("id") && "minecraft:lectern".equals(tag.get("id").getValue())) {
+                int index = ((position.getY() >> 4) << 12) | ((position.getY() & 0xF) << 8) | ((position.getZ() & 0xF) << 4) | (position.getX() & 0xF);
+                if (changedIndices.contains(index)) {
+                    // Lecterns are refreshed by ChunkUtils#updateBlock when their block changes
+                    continue;
+                }
+            }
+            NbtMap blockEntity = ChunkUtils.translateBlockEntity(session, column, tag);
+            BlockEntityUtils.updateBlockEntity(session, blockEntity, position);
+        }
+        return true;
+    }
 }
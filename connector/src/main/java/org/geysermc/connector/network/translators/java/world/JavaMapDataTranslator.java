@@ -28,6 +28,8 @@ package org.geysermc.connector.network.translators.java.world;
 import com.github.steveice10.mc.protocol.data.game.world.map.MapData;
 import com.github.steveice10.mc.protocol.data.game.world.map.MapIcon;
 import com.github.steveice10.mc.protocol.packet.ingame.server.world.ServerMapDataPacket;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nukkitx.protocol.bedrock.data.MapDecoration;
 import com.nukkitx.protocol.bedrock.data.MapTrackedObject;
 import com.nukkitx.protocol.bedrock.packet.ClientboundMapItemDataPacket;
@@ -38,8 +40,22 @@ import org.geysermc.connector.utils.BedrockMapIcon;
 import org.geysermc.connector.utils.DimensionUtils;
 import org.geysermc.connector.utils.MapColor;
 
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
 @Translator(packet = ServerMapDataPacket.class)
 public class JavaMapDataTranslator extends PacketTranslator<ServerMapDataPacket> {
+    private static final int MAP_SIZE = 128;
+
+    /**
+     * Full map images converted to Bedrock colors, keyed by the hash of the Java colors so sessions seeing the same map
+     * share one image. The images are sent as they are and must never be modified.
+     */
+    private static final Cache<Integer, MapImage> MAP_IMAGES = CacheBuilder.newBuilder()
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .maximumSize(1024)
+            .build();
+
     @Override
     public void translate(ServerMapDataPacket packet, GeyserSession session) {
         ClientboundMapItemDataPacket mapItemDataPacket = new ClientboundMapItemDataPacket();
@@ -58,19 +74,12 @@ public class JavaMapDataTranslator extends PacketTranslator<ServerMapDataPacket>
             mapItemDataPacket.setHeight(data.getRows());
 
             // We have a full map image, this usually only happens on spawn for the initial image
-            if (mapItemDataPacket.getWidth() == 128 && mapItemDataPacket.getHeight() == 128) {
+            if (mapItemDataPacket.getWidth() == MAP_SIZE && mapItemDataPacket.getHeight() == MAP_SIZE) {
                 shouldStore = true;
+                mapItemDataPacket.setColors(getFullImage(data.getData()));
+            } else {
+                mapItemDataPacket.setColors(toBedrockColors(data.getData()));
             }
-
-            // Every int entry is an ABGR color
-            int[] colors = new int[data.getData().length];
-
-            int idx = 0;
-            for (byte colorId : data.getData()) {
-                colors[idx++] = MapColor.fromId(colorId & 0xFF).toABGR();
-            }
-
-            mapItemDataPacket.setColors(colors);
         }
 
         // Bedrock needs an entity id to display an icon
@@ -85,10 +94,88 @@ public class JavaMapDataTranslator extends PacketTranslator<ServerMapDataPacket>
 
         // Store the map to send when the client requests it, as bedrock expects the data after a MapInfoRequestPacket
         if (shouldStore) {
-            session.getStoredMaps().put(mapItemDataPacket.getUniqueMapId(), mapItemDataPacket);
+            session.getMapCache().storeMap(mapItemDataPacket);
+        } else if (data != null) {
+            // Keep the stored image up to date with the partial update
+            ClientboundMapItemDataPacket storedMap = session.getMapCache().getMap(mapItemDataPacket.getUniqueMapId());
+            if (storedMap != null) {
+                patchStoredMap(session, storedMap, mapItemDataPacket);
+            }
         }
 
         // Send anyway just in case
         session.sendUpstreamPacket(mapItemDataPacket);
     }
+
+    /**
+     * @param javaColors the Java colors of a full map
+     * @return the Bedrock colors of the map, shared with every other session that has seen the same image
+     */
+    private static int[] getFullImage(byte[] javaColors) {
+        int hash = Arrays.hashCode(javaColors);
+        MapImage image = MAP_IMAGES.getIfPresent(hash);
+        if (image != null && Arrays.equals(image.javaColors, javaColors)) {
+            return image.bedrockColors;
+        }
+        // Copy the colors as the stored image must not change if the packet data is reused
+        image = new MapImage(javaColors.clone(), toBedrockColors(javaColors));
+        MAP_IMAGES.put(hash, image);
+        return image.bedrockColors;
+    }
+
+    private static int[] toBedrockColors(byte[] javaColors) {
+        // Every int entry is an ABGR color
+        int[] colors = new int[javaColors.length];
+        for (int i = 0; i < javaColors.length; i++) {
+            colors[i] = MapColor.toABGR(javaColors[i]);
+        }
+        return colors;
+    }
+
+    /**
+     * Apply a partial map update on top of a stored full map. The stored image is copied the first time, as it may be
+     * shared with other sessions, and changed in place from then on.
+     *
+     * @param storedMap the stored full map, which is updated
+     * @param update the partial update, already translated for Bedrock
+     */
+    private static void patchStoredMap(GeyserSession session, ClientboundMapItemDataPacket storedMap, ClientboundMapItemDataPacket update) {
+        int[] colors = storedMap.getColors();
+        if (!session.getMapCache().isImageOwned(update.getUniqueMapId())) {
+            colors = colors.clone();
+            storedMap.setColors(colors);
+            session.getMapCache().setImageOwned(update.getUniqueMapId());
+        }
+
+        int[] updateColors = update.getColors();
+        for (int row = 0; row < update.getHeight(); row++) {
+            int y = update.getYOffset() + row;
+            int length = Math.min(update.getWidth(), MAP_SIZE - update.getXOffset());
+            if (y >= MAP_SIZE || length <= 0) {
+                break;
+            }
+            System.arraycopy(updateColors, row * update.getWidth(), colors, y * MAP_SIZE + update.getXOffset(), length);
+        }
+
+        storedMap.setDimensionId(update.getDimensionId());
+        storedMap.setLocked(update.isLocked());
+        storedMap.setScale(update.getScale());
+        storedMap.getTrackedObjects().clear();
+        storedMap.getTrackedObjects().addAll(update.getTrackedObjects());
+        storedMap.getDecorations().clear();
+        storedMap.getDecorations().addAll(update.getDecorations());
+    }
+
+    /**
+     * A full map image in Java and Bedrock colors. The Java colors confirm a match, as the cache is keyed by their hash.
+     */
+    private static final class MapImage {
+        private final byte[] javaColors;
+        private final int[] bedrockColors;
+
+        private MapImage(byte[] javaColors, int[] bedrockColors) {
+            this.javaColors = javaColors;
+            this.bedrockColors = bedrockColors;
+        }
+    }
 }
@@ -30,16 +30,28 @@ import org.geysermc.connector.network.translators.PacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.utils.ChunkUtils;
 
+import com.github.steveice10.mc.protocol.data.game.entity.metadata.Position;
 import com.github.steveice10.mc.protocol.data.game.world.block.BlockChangeRecord;
 import com.github.steveice10.mc.protocol.packet.ingame.server.world.ServerMultiBlockChangePacket;
+import com.nukkitx.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Translator(packet = ServerMultiBlockChangePacket.class)
 public class JavaMultiBlockChangeTranslator extends PacketTranslator<ServerMultiBlockChangePacket> {
 
     @Override
     public void translate(ServerMultiBlockChangePacket packet, GeyserSession session) {
+        IntList blockStates = new IntArrayList();
+        List<Vector3i> positions = new ArrayList<>();
         for (BlockChangeRecord record : packet.getRecords()) {
-            ChunkUtils.updateBlock(session, record.getBlock(), record.getPosition());
+            Position position = record.getPosition();
+            blockStates.add(record.getBlock());
+            positions.add(Vector3i.from(position.getX(), position.getY(), position.getZ()));
         }
+        ChunkUtils.updateBlocks(session, blockStates.toIntArray(), positions.toArray(new Vector3i[0]));
     }
 }
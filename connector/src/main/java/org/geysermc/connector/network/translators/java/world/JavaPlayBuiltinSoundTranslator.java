@@ -27,27 +27,31 @@ package org.geysermc.connector.network.translators.java.world;
 
 import com.github.steveice10.mc.protocol.packet.ingame.server.world.ServerPlayBuiltinSoundPacket;
 import com.nukkitx.math.vector.Vector3f;
+import com.nukkitx.protocol.bedrock.BedrockPacket;
 import com.nukkitx.protocol.bedrock.data.LevelEventType;
 import com.nukkitx.protocol.bedrock.data.SoundEvent;
 import com.nukkitx.protocol.bedrock.packet.LevelEventPacket;
 import com.nukkitx.protocol.bedrock.packet.LevelSoundEventPacket;
 import org.geysermc.connector.network.session.GeyserSession;
-import org.geysermc.connector.network.translators.PacketTranslator;
+import org.geysermc.connector.network.translators.SharedPacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.network.translators.sound.SoundRegistry;
 import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 
+import java.util.Collections;
+import java.util.List;
+
 @Translator(packet = ServerPlayBuiltinSoundPacket.class)
-public class JavaPlayBuiltinSoundTranslator extends PacketTranslator<ServerPlayBuiltinSoundPacket> {
+public class JavaPlayBuiltinSoundTranslator extends SharedPacketTranslator<ServerPlayBuiltinSoundPacket> {
 
     @Override
-    public void translate(ServerPlayBuiltinSoundPacket packet, GeyserSession session) {
+    public List<BedrockPacket> translateShared(ServerPlayBuiltinSoundPacket packet, GeyserSession session) {
         String packetSound = packet.getSound().getName();
 
         SoundRegistry.SoundMapping soundMapping = SoundRegistry.fromJava(packetSound);
         if (soundMapping == null) {
             session.getConnector().getLogger().debug("[Builtin] Sound mapping " + packetSound + " not found - " + packet.toString());
-            return;
+            return Collections.emptyList();
         }
 
         if (soundMapping.isLevelEvent()) {
@@ -55,8 +59,7 @@ public class JavaPlayBuiltinSoundTranslator extends PacketTranslator<ServerPlayB
             levelEventPacket.setPosition(Vector3f.from(packet.getX(), packet.getY(), packet.getZ()));
             levelEventPacket.setData(0);
             levelEventPacket.setType(LevelEventType.valueOf(soundMapping.getBedrock()));
-            session.sendUpstreamPacket(levelEventPacket);
-            return;
+            return Collections.singletonList(levelEventPacket);
         }
         LevelSoundEventPacket soundPacket = new LevelSoundEventPacket();
         SoundEvent sound = SoundRegistry.toSoundEvent(soundMapping.getBedrock());
@@ -70,7 +73,7 @@ public class JavaPlayBuiltinSoundTranslator extends PacketTranslator<ServerPlayB
             session.getConnector().getLogger().debug("[Builtin] Sound for original " + packetSound + " to mappings " + soundPacket
                             + " was not a playable level sound, or has yet to be mapped to an enum in "
                             + "NukkitX SoundEvent ");
-            return;
+            return Collections.emptyList();
         }
 
         soundPacket.setSound(sound);
@@ -95,6 +98,6 @@ public class JavaPlayBuiltinSoundTranslator extends PacketTranslator<ServerPlayB
 
         soundPacket.setBabySound(false); // might need to adjust this in the future
         soundPacket.setRelativeVolumeDisabled(false);
-        session.sendUpstreamPacket(soundPacket);
+        return Collections.singletonList(soundPacket);
     }
 }
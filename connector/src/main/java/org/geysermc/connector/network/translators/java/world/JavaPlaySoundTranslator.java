@@ -29,17 +29,21 @@ import com.github.steveice10.mc.protocol.data.game.world.sound.BuiltinSound;
 import com.github.steveice10.mc.protocol.data.game.world.sound.CustomSound;
 import com.github.steveice10.mc.protocol.packet.ingame.server.world.ServerPlaySoundPacket;
 import com.nukkitx.math.vector.Vector3f;
+import com.nukkitx.protocol.bedrock.BedrockPacket;
 import com.nukkitx.protocol.bedrock.packet.*;
 import org.geysermc.connector.network.session.GeyserSession;
-import org.geysermc.connector.network.translators.PacketTranslator;
+import org.geysermc.connector.network.translators.SharedPacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.network.translators.sound.SoundRegistry;
 
+import java.util.Collections;
+import java.util.List;
+
 @Translator(packet = ServerPlaySoundPacket.class)
-public class JavaPlaySoundTranslator extends PacketTranslator<ServerPlaySoundPacket> {
+public class JavaPlaySoundTranslator extends SharedPacketTranslator<ServerPlaySoundPacket> {
 
     @Override
-    public void translate(ServerPlaySoundPacket packet, GeyserSession session) {
+    public List<BedrockPacket> translateShared(ServerPlaySoundPacket packet, GeyserSession session) {
         String packetSound;
         if (packet.getSound() instanceof BuiltinSound) {
             packetSound = ((BuiltinSound) packet.getSound()).getName();
@@ -47,7 +51,7 @@ public class JavaPlaySoundTranslator extends PacketTranslator<ServerPlaySoundPac
             packetSound = ((CustomSound) packet.getSound()).getName();
         } else {
             session.getConnector().getLogger().debug("Unknown sound packet, we were unable to map this. " + packet.toString());
-            return;
+            return Collections.emptyList();
         }
 
         SoundRegistry.SoundMapping soundMapping = SoundRegistry.fromJava(packetSound.replace("minecraft:", ""));
@@ -67,6 +71,6 @@ public class JavaPlaySoundTranslator extends PacketTranslator<ServerPlaySoundPac
         playSoundPacket.setVolume(packet.getVolume());
         playSoundPacket.setPitch(packet.getPitch());
 
-        session.sendUpstreamPacket(playSoundPacket);
+        return Collections.singletonList(playSoundPacket);
     }
 }
@@ -42,25 +42,48 @@ import org.geysermc.connector.network.translators.item.ItemTranslator;
 import org.geysermc.connector.utils.DimensionUtils;
 
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 @Translator(packet = ServerSpawnParticlePacket.class)
 public class JavaSpawnParticleTranslator extends PacketTranslator<ServerSpawnParticlePacket> {
-    private final Random random = new Random();
+    /**
+     * The most particles sent to one client in a tick; anything above is dropped
+     */
+    private static final int MAX_PARTICLES_PER_TICK = 200;
+
+    /**
+     * Particles not sent because a session was over its budget
+     */
+    private static final AtomicLong DROPPED_PARTICLES = new AtomicLong();
+    /**
+     * Particles not sent because they would have been identical to another particle in the same packet
+     */
+    private static final AtomicLong MERGED_PARTICLES = new AtomicLong();
 
     @Override
     public void translate(ServerSpawnParticlePacket packet, GeyserSession session) {
         Function<Vector3f, BedrockPacket> particleCreateFunction = createParticle(session, packet.getParticle());
         if (particleCreateFunction != null) {
-            if (packet.getAmount() == 0) {
+            boolean noOffset = packet.getOffsetX() == 0 && packet.getOffsetY() == 0 && packet.getOffsetZ() == 0;
+            if (packet.getAmount() == 0 || noOffset) {
                 // 0 means don't apply the offset
-                Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
-                session.sendUpstreamPacket(particleCreateFunction.apply(position));
+                // Without an offset every particle would be the same, as Bedrock doesn't use the velocity
+                if (packet.getAmount() > 1) {
+                    MERGED_PARTICLES.addAndGet(packet.getAmount() - 1);
+                }
+                if (takeParticleBudget(session, 1) == 1) {
+                    Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
+                    session.sendUpstreamPacket(particleCreateFunction.apply(position));
+                }
             } else {
-                for (int i = 0; i < packet.getAmount(); i++) {
-                    double offsetX = this.random.nextGaussian() * (double) packet.getOffsetX();
-                    double offsetY = this.random.nextGaussian() * (double) packet.getOffsetY();
-                    double offsetZ = this.random.nextGaussian() * (double) packet.getOffsetZ();
+                int amount = takeParticleBudget(session, packet.getAmount());
+                Random random = ThreadLocalRandom.current();
+                for (int i = 0; i < amount; i++) {
+                    double offsetX = random.nextGaussian() * (double) packet.getOffsetX();
+                    double offsetY = random.nextGaussian() * (double) packet.getOffsetY();
+                    double offsetZ = random.nextGaussian() * (double) packet.getOffsetZ();
                     Vector3f position = Vector3f.from(packet.getX() + offsetX, packet.getY() + offsetY, packet.getZ() + offsetZ);
 
                     session.sendUpstreamPacket(particleCreateFunction.apply(position));
@@ -72,6 +95,43 @@ public class JavaSpawnParticleTranslator extends PacketTranslator<ServerSpawnPar
         }
     }
 
+    /**
+     * Take particles out of this tick's budget for the session. Particles over the budget are the last in the packet,
+     * as each particle is placed randomly anyway.
+     *
+     * @param session the Bedrock client session.
+     * @param amount the amount of particles wanted.
+     * @return the amount of particles that can be sent.
+     */
+    private static int takeParticleBudget(GeyserSession session, int amount) {
+        long tick = System.currentTimeMillis() / 50;
+        if (session.getParticleTick() != tick) {
+            session.setParticleTick(tick);
+            session.setParticlesThisTick(0);
+        }
+
+        int allowed = Math.min(amount, MAX_PARTICLES_PER_TICK - session.getParticlesThisTick());
+        session.setParticlesThisTick(session.getParticlesThisTick() + allowed);
+        if (allowed < amount) {
+            DROPPED_PARTICLES.addAndGet(amount - allowed);
+        }
+        return allowed;
+    }
+
+    /**
+     * @return the total amount of particles dropped for being over a session's budget
+     */
+    public static long getDroppedParticles() {
+        return DROPPED_PARTICLES.get();
+    }
+
+    /**
+     * @return the total amount of particles merged into an identical particle
+     */
+    public static long getMergedParticles() {
+        return MERGED_PARTICLES.get();
+    }
+
     /**
      * @param session the Bedrock client session.
      * @param particle the Java particle to translate to a Bedrock equivalent.
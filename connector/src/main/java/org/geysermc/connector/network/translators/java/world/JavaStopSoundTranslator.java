@@ -28,24 +28,27 @@ package org.geysermc.connector.network.translators.java.world;
 import com.github.steveice10.mc.protocol.data.game.world.sound.BuiltinSound;
 import com.github.steveice10.mc.protocol.data.game.world.sound.CustomSound;
 import com.github.steveice10.mc.protocol.packet.ingame.server.ServerStopSoundPacket;
+import com.nukkitx.protocol.bedrock.BedrockPacket;
 import com.nukkitx.protocol.bedrock.packet.StopSoundPacket;
 import org.geysermc.connector.network.session.GeyserSession;
-import org.geysermc.connector.network.translators.PacketTranslator;
+import org.geysermc.connector.network.translators.SharedPacketTranslator;
 import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.network.translators.sound.SoundRegistry;
 
+import java.util.Collections;
+import java.util.List;
+
 @Translator(packet = ServerStopSoundPacket.class)
-public class JavaStopSoundTranslator extends PacketTranslator<ServerStopSoundPacket> {
+public class JavaStopSoundTranslator extends SharedPacketTranslator<ServerStopSoundPacket> {
 
     @Override
-    public void translate(ServerStopSoundPacket packet, GeyserSession session) {
+    public List<BedrockPacket> translateShared(ServerStopSoundPacket packet, GeyserSession session) {
         // Runs if all sounds are stopped
         if (packet.getSound() == null) {
             StopSoundPacket stopPacket = new StopSoundPacket();
             stopPacket.setStoppingAllSound(true);
             stopPacket.setSoundName("");
-            session.sendUpstreamPacket(stopPacket);
-            return;
+            return Collections.singletonList(stopPacket);
         }
 
         String packetSound;
@@ -55,7 +58,7 @@ public class JavaStopSoundTranslator extends PacketTranslator<ServerStopSoundPac
             packetSound = ((CustomSound) packet.getSound()).getName();
         } else {
             session.getConnector().getLogger().debug("Unknown sound packet, we were unable to map this. " + packet.toString());
-            return;
+            return Collections.emptyList();
         }
         SoundRegistry.SoundMapping soundMapping = SoundRegistry.fromJava(packetSound.replace("minecraft:", ""));
         session.getConnector().getLogger()
@@ -77,7 +80,7 @@ public class JavaStopSoundTranslator extends PacketTranslator<ServerStopSoundPac
         // packet not mapped in the library
         stopSoundPacket.setStoppingAllSound(false);
 
-        session.sendUpstreamPacket(stopSoundPacket);
         session.getConnector().getLogger().debug("[StopSound] Packet sent - " + packet.toString() + " --> " + stopSoundPacket);
+        return Collections.singletonList(stopSoundPacket);
     }
 }
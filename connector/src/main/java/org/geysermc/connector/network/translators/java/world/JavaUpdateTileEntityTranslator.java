@@ -38,7 +38,6 @@ import org.geysermc.connector.network.translators.Translator;
 import org.geysermc.connector.network.translators.world.block.entity.BlockEntityTranslator;
 import org.geysermc.connector.network.translators.world.block.entity.SkullBlockEntityTranslator;
 import org.geysermc.connector.utils.BlockEntityUtils;
-import org.geysermc.connector.utils.ChunkUtils;
 
 @Translator(packet = ServerUpdateTileEntityPacket.class)
 public class JavaUpdateTileEntityTranslator extends PacketTranslator<ServerUpdateTileEntityPacket> {
@@ -63,7 +62,7 @@ public class JavaUpdateTileEntityTranslator extends PacketTranslator<ServerUpdat
                 // Cache chunks is enabled; use chunk cache
                 session.getConnector().getWorldManager().getBlockAt(session, packet.getPosition()) :
                 // Cache chunks is not enabled; use block entity cache
-                ChunkUtils.CACHED_BLOCK_ENTITIES.removeInt(packet.getPosition());
+                session.getBlockEntityStateCache().remove(packet.getPosition());
         BlockEntityUtils.updateBlockEntity(session, translator.getBlockEntityTag(id, packet.getNbt(), blockState), packet.getPosition());
         // Check for custom skulls.
         if (SkullBlockEntityTranslator.ALLOW_CUSTOM_SKULLS && packet.getNbt().contains("SkullOwner")) {
@@ -25,12 +25,17 @@
 
 package org.geysermc.connector.network.translators.sound;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.network.translators.item.ItemEntry;
+import org.geysermc.connector.network.translators.item.ItemRegistry;
+import org.geysermc.connector.network.translators.world.block.BlockTranslator;
 import org.geysermc.connector.utils.FileUtils;
 import org.reflections.Reflections;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
  * Registry that holds {@link SoundInteractionHandler}s.
@@ -39,6 +44,12 @@ public class SoundHandlerRegistry {
 
     static final Map<SoundHandler, SoundInteractionHandler<?>> INTERACTION_HANDLERS = new HashMap<>();
 
+    /**
+     * The block interaction handlers that apply to each Java block state, indexed by block state
+     */
+    private static final BlockInteractionEntry[][] BLOCK_INTERACTION_HANDLERS;
+    private static final BlockInteractionEntry[] NO_HANDLERS = new BlockInteractionEntry[0];
+
     static {
         Reflections ref = GeyserConnector.getInstance().useXmlReflections() ? FileUtils.getReflections("org.geysermc.connector.network.translators.sound") : new Reflections("org.geysermc.connector.network.translators.sound");
         for (Class<?> clazz : ref.getTypesAnnotatedWith(SoundHandler.class)) {
@@ -50,6 +61,52 @@ public class SoundHandlerRegistry {
                 ex.printStackTrace();
             }
         }
+
+        // Match the identifiers of every block state and item against the handlers once,
+        // so an interaction only has to look up its block state
+        List<BlockInteractionEntry> blockHandlers = new ArrayList<>();
+        for (Map.Entry<SoundHandler, SoundInteractionHandler<?>> interactionEntry : INTERACTION_HANDLERS.entrySet()) {
+            if (!(interactionEntry.getValue() instanceof BlockSoundInteractionHandler)) {
+                continue;
+            }
+            BitSet items = null;
+            if (interactionEntry.getKey().items().length != 0) {
+                items = new BitSet();
+                for (Int2ObjectMap.Entry<ItemEntry> itemEntry : ItemRegistry.ITEM_ENTRIES.int2ObjectEntrySet()) {
+                    if (containsAny(itemEntry.getValue().getJavaIdentifier(), interactionEntry.getKey().items())) {
+                        items.set(itemEntry.getIntKey());
+                    }
+                }
+            }
+            blockHandlers.add(new BlockInteractionEntry(interactionEntry.getKey(), (BlockSoundInteractionHandler) interactionEntry.getValue(), items));
+        }
+
+        Map<String, Integer> blockStates = BlockTranslator.getJavaIdBlockMap();
+        int maxBlockState = 0;
+        for (int blockState : blockStates.values()) {
+            maxBlockState = Math.max(maxBlockState, blockState);
+        }
+        BLOCK_INTERACTION_HANDLERS = new BlockInteractionEntry[maxBlockState + 1][];
+        // Most block states have the same handlers, so share the arrays
+        Map<List<BlockInteractionEntry>, BlockInteractionEntry[]> handlerArrays = new HashMap<>();
+        for (Map.Entry<String, Integer> blockState : blockStates.entrySet()) {
+            List<BlockInteractionEntry> handlers = new ArrayList<>();
+            for (BlockInteractionEntry entry : blockHandlers) {
+                if (entry.getAnnotation().blocks().length == 0 || containsAny(blockState.getKey(), entry.getAnnotation().blocks())) {
+                    handlers.add(entry);
+                }
+            }
+            BLOCK_INTERACTION_HANDLERS[blockState.getValue()] = handlerArrays.computeIfAbsent(handlers, list -> list.toArray(NO_HANDLERS));
+        }
+    }
+
+    private static boolean containsAny(String identifier, String[] values) {
+        for (String value : values) {
+            if (identifier.contains(value)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private SoundHandlerRegistry() {
@@ -67,4 +124,31 @@ public class SoundHandlerRegistry {
     public static Map<SoundHandler, SoundInteractionHandler<?>> getInteractionHandlers() {
         return INTERACTION_HANDLERS;
     }
+
+    /**
+     * Returns the block interaction handlers whose blocks match the given block state
+     *
+     * @param javaBlockState the Java block state
+     * @return the block interaction handlers for this block state
+     */
+    static BlockInteractionEntry[] getBlockInteractionHandlers(int javaBlockState) {
+        if (javaBlockState < 0 || javaBlockState >= BLOCK_INTERACTION_HANDLERS.length || BLOCK_INTERACTION_HANDLERS[javaBlockState] == null) {
+            return NO_HANDLERS;
+        }
+        return BLOCK_INTERACTION_HANDLERS[javaBlockState];
+    }
+
+    /**
+     * A block interaction handler with the items it applies to resolved to Java item IDs
+     */
+    @RequiredArgsConstructor
+    @Getter
+    static final class BlockInteractionEntry {
+        private final SoundHandler annotation;
+        private final BlockSoundInteractionHandler handler;
+        /**
+         * The Java IDs of the items this handler applies to, or null if it applies to any item
+         */
+        private final BitSet items;
+    }
 }
@@ -29,10 +29,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.nukkitx.protocol.bedrock.data.SoundEvent;
 import lombok.Data;
 import lombok.ToString;
-import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.utils.FileUtils;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -50,10 +48,9 @@ public class SoundRegistry {
 
     static {
         /* Load sound mappings */
-        InputStream stream  = FileUtils.getResource("mappings/sounds.json");
         JsonNode soundsTree;
         try {
-            soundsTree = GeyserConnector.JSON_MAPPER.readTree(stream);
+            soundsTree = FileUtils.readJsonResource("mappings/sounds.json");
         } catch (IOException e) {
             throw new AssertionError("Unable to load sound mappings", e);
         }
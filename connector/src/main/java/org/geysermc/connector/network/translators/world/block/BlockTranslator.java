@@ -34,8 +34,8 @@ import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import lombok.Getter;
-import org.geysermc.connector.GeyserConnector;
 import org.geysermc.connector.network.translators.world.chunk.ChunkSection;
 import org.geysermc.connector.network.translators.world.chunk.EmptyChunkProvider;
 import org.geysermc.connector.registry.type.BlockMapping;
@@ -46,6 +46,7 @@ import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.zip.GZIPInputStream;
 
 public abstract class BlockTranslator {
@@ -109,9 +110,8 @@ public abstract class BlockTranslator {
     public static JsonNode BLOCKS_JSON;
 
     static {
-        InputStream stream = FileUtils.getResource("mappings/blocks.json");
         try {
-            BLOCKS_JSON = GeyserConnector.JSON_MAPPER.readTree(stream);
+            BLOCKS_JSON = FileUtils.readJsonResource("mappings/blocks.json");
         } catch (Exception e) {
             throw new AssertionError("Unable to load Java block mappings", e);
         }
@@ -123,6 +123,8 @@ public abstract class BlockTranslator {
         int spawnerRuntimeId = -1;
         int uniqueJavaId = -1;
         int waterRuntimeId = -1;
+        // Tracks which clean identifiers already have a unique ID, as a lookup by value on the map would be a linear scan
+        Set<String> uniqueJavaIdentifiers = new ObjectOpenHashSet<>();
         Iterator<Map.Entry<String, JsonNode>> blocksIterator = BLOCKS_JSON.fields();
         while (blocksIterator.hasNext()) {
             javaRuntimeId++;
@@ -167,7 +169,7 @@ public abstract class BlockTranslator {
             String cleanJavaIdentifier = entry.getKey().split("\\[")[0];
             String bedrockIdentifier = entry.getValue().get("bedrock_identifier").asText();
 
-            if (!JAVA_ID_TO_JAVA_IDENTIFIER_MAP.containsValue(cleanJavaIdentifier)) {
+            if (uniqueJavaIdentifiers.add(cleanJavaIdentifier)) {
                 uniqueJavaId++;
                 JAVA_ID_TO_JAVA_IDENTIFIER_MAP.put(uniqueJavaId, cleanJavaIdentifier);
             }
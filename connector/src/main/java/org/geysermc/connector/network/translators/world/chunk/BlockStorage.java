@@ -27,8 +27,11 @@ package org.geysermc.connector.network.translators.world.chunk;
 
 import com.nukkitx.network.VarInts;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.geysermc.connector.network.translators.world.chunk.bitarray.BitArray;
 import org.geysermc.connector.network.translators.world.chunk.bitarray.BitArrayVersion;
@@ -42,6 +45,11 @@ public class BlockStorage {
 
     private final IntList palette;
     private BitArray bitArray;
+    /**
+     * Runtime ID to palette index. Only created once a block is set in this storage.
+     */
+    @Getter(AccessLevel.NONE)
+    private Int2IntMap paletteIndex;
 
     public BlockStorage(int airBlockId) {
         this(airBlockId, BitArrayVersion.V2);
@@ -102,13 +110,23 @@ public class BlockStorage {
     }
 
     private int idFor(int runtimeId) {
-        int index = this.palette.indexOf(runtimeId);
+        if (this.paletteIndex == null) {
+            this.paletteIndex = new Int2IntOpenHashMap(this.palette.size());
+            this.paletteIndex.defaultReturnValue(-1);
+            // Iterate backwards so the first occurrence of a runtime ID takes precedence, like indexOf would
+            for (int i = this.palette.size() - 1; i >= 0; i--) {
+                this.paletteIndex.put(this.palette.getInt(i), i);
+            }
+        }
+
+        int index = this.paletteIndex.get(runtimeId);
         if (index != -1) {
             return index;
         }
 
         index = this.palette.size();
         this.palette.add(runtimeId);
+        this.paletteIndex.put(runtimeId, index);
         BitArrayVersion version = this.bitArray.getVersion();
         if (index > version.getMaxEntryValue()) {
             BitArrayVersion next = version.next();
@@ -70,6 +70,14 @@ public enum BitArrayVersion {
         return null;
     }
 
+    /**
+     * @param size the amount of entries in a palette
+     * @return the version using the least bits per entry that can still index every palette entry
+     */
+    public static BitArrayVersion forPaletteSize(int size) {
+        return forBitsCeil(Integer.SIZE - Integer.numberOfLeadingZeros(size - 1));
+    }
+
     public byte getId() {
         return bits;
     }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+package org.geysermc.connector.ping;
+
+import org.geysermc.connector.GeyserConnector;
+import org.geysermc.connector.common.ping.GeyserPingInfo;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves a snapshot of another ping passthrough's information, which is refreshed on the general thread pool.
+ * This keeps platform ping events, which may block, off of the Bedrock listener threads.
+ */
+public class GeyserCachedPingPassthrough implements IGeyserPingPassthrough, Runnable {
+
+    private final GeyserConnector connector;
+    private final IGeyserPingPassthrough pingPassthrough;
+
+    private volatile GeyserPingInfo pingInfo;
+
+    private GeyserCachedPingPassthrough(GeyserConnector connector, IGeyserPingPassthrough pingPassthrough) {
+        this.connector = connector;
+        this.pingPassthrough = pingPassthrough;
+    }
+
+    /**
+     * Start refreshing ping information from the given passthrough
+     * @param connector GeyserConnector
+     * @param pingPassthrough the platform ping passthrough to take snapshots of
+     * @return the cached passthrough, or the given passthrough if no ping information is passed through
+     */
+    public static IGeyserPingPassthrough init(GeyserConnector connector, IGeyserPingPassthrough pingPassthrough) {
+        if (connector.getConfig().isPassthroughMotd() || connector.getConfig().isPassthroughPlayerCounts()) {
+            GeyserCachedPingPassthrough cachedPingPassthrough = new GeyserCachedPingPassthrough(connector, pingPassthrough);
+            // Ensure delay is not zero
+            int interval = (connector.getConfig().getPingPassthroughInterval() == 0) ? 1 : connector.getConfig().getPingPassthroughInterval();
+            connector.getLogger().debug("Scheduling ping passthrough at an interval of " + interval + " second(s).");
+            connector.getGeneralThreadPool().scheduleAtFixedRate(cachedPingPassthrough, 0, interval, TimeUnit.SECONDS);
+            return cachedPingPassthrough;
+        }
+        return pingPassthrough;
+    }
+
+    @Override
+    public GeyserPingInfo getPingInformation(InetSocketAddress inetSocketAddress) {
+        return pingInfo;
+    }
+
+    @Override
+    public void run() {
+        try {
+            this.pingInfo = pingPassthrough.getPingInformation();
+        } catch (Exception e) {
+            // Keep serving the last snapshot; an exception here would also cancel the scheduled task
+            connector.getLogger().debug("Error while refreshing ping passthrough: " + e);
+        }
+    }
+}
@@ -26,10 +26,10 @@
 package org.geysermc.connector.scoreboard;
 
 import com.github.steveice10.mc.protocol.data.game.scoreboard.ScoreboardPosition;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
@@ -38,7 +38,6 @@ public final class Objective {
     private final long id;
     private boolean active = true;
 
-    @Setter
     private UpdateType updateType = UpdateType.ADD;
 
     private String objectiveName;
@@ -49,6 +48,17 @@ public final class Objective {
 
     private Map<String, Score> scores = new ConcurrentHashMap<>();
 
+    /**
+     * The scores that have changed since the last scoreboard update
+     */
+    @Getter(AccessLevel.NONE)
+    private final Set<Score> dirtyScores = ConcurrentHashMap.newKeySet();
+    /**
+     * If every score has to be checked in the next scoreboard update, because the objective itself changed
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile boolean fullUpdate = true;
+
     private Objective(Scoreboard scoreboard) {
         this.id = scoreboard.getNextId().getAndIncrement();
         this.scoreboard = scoreboard;
@@ -73,6 +83,7 @@ public final class Objective {
         this.displaySlotName = translateDisplaySlot(displaySlot);
         this.displayName = displayName;
         this.type = type;
+        scoreboard.markDirty(this);
     }
 
     private static String translateDisplaySlot(ScoreboardPosition displaySlot) {
@@ -105,6 +116,7 @@ public final class Objective {
                     .setTeam(scoreboard.getTeamFor(id))
                     .setUpdateType(UpdateType.ADD);
             scores.put(id, scoreObject);
+            markScoreDirty(scoreObject);
         }
     }
 
@@ -113,6 +125,7 @@ public final class Objective {
         if (stored != null) {
             stored.setScore(score)
                     .setUpdateType(UpdateType.UPDATE);
+            markScoreDirty(stored);
             return;
         }
         registerScore(id, score);
@@ -122,6 +135,7 @@ public final class Objective {
         Score stored = scores.get(id);
         if (stored != null) {
             stored.setUpdateType(UpdateType.REMOVE);
+            markScoreDirty(stored);
         }
     }
 
@@ -132,10 +146,50 @@ public final class Objective {
         scores.remove(id);
     }
 
+    /**
+     * Mark a score of this objective to be checked in the next scoreboard update.
+     * Changes to non-active objectives aren't tracked, as every score is checked once the objective is displayed.
+     */
+    void markScoreDirty(Score score) {
+        if (active) {
+            dirtyScores.add(score);
+            scoreboard.markDirty(this);
+        }
+    }
+
+    /**
+     * Take the scores that have to be checked in this scoreboard update.
+     *
+     * @return every score if the objective itself changed, or the changed scores otherwise
+     */
+    Collection<Score> pollDirtyScores() {
+        if (fullUpdate) {
+            fullUpdate = false;
+            dirtyScores.clear();
+            return scores.values();
+        }
+
+        List<Score> polled = new ArrayList<>(dirtyScores.size());
+        Iterator<Score> iterator = dirtyScores.iterator();
+        while (iterator.hasNext()) {
+            polled.add(iterator.next());
+            iterator.remove();
+        }
+        return polled;
+    }
+
+    public void setUpdateType(UpdateType updateType) {
+        this.updateType = updateType;
+        if (updateType != UpdateType.NOTHING) {
+            fullUpdate = true;
+            scoreboard.markDirty(this);
+        }
+    }
+
     public Objective setDisplayName(String displayName) {
         this.displayName = displayName;
         if (updateType == UpdateType.NOTHING) {
-            updateType = UpdateType.UPDATE;
+            setUpdateType(UpdateType.UPDATE);
         }
         return this;
     }
@@ -143,7 +197,7 @@ public final class Objective {
     public Objective setType(int type) {
         this.type = type;
         if (updateType == UpdateType.NOTHING) {
-            updateType = UpdateType.UPDATE;
+            setUpdateType(UpdateType.UPDATE);
         }
         return this;
     }
@@ -153,6 +207,8 @@ public final class Objective {
             active = true;
             this.displaySlot = correctDisplaySlot(displaySlot);
             displaySlotName = translateDisplaySlot(displaySlot);
+            fullUpdate = true;
+            scoreboard.markDirty(this);
         }
     }
 
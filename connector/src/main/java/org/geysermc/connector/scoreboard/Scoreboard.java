@@ -51,9 +51,27 @@ public final class Scoreboard {
     private final Map<String, Objective> objectives = new ConcurrentHashMap<>();
     private final Map<String, Team> teams = new HashMap<>();
 
+    /**
+     * The objectives that have changed since the last update. Only these are looked at in {@link #onUpdate()}.
+     */
+    private final Set<Objective> dirtyObjectives = ConcurrentHashMap.newKeySet();
+    /**
+     * The teams that have changed since the last update
+     */
+    private final Set<Team> dirtyTeams = ConcurrentHashMap.newKeySet();
+
     private int lastAddScoreCount = 0;
     private int lastRemoveScoreCount = 0;
 
+    /**
+     * The amount of scores that had to be checked in the last update
+     */
+    private int lastUpdateCost = 0;
+    /**
+     * The amount of scores that have been checked in all updates of this scoreboard
+     */
+    private long totalUpdateCost = 0;
+
     public Scoreboard(GeyserSession session) {
         this.session = session;
         this.logger = GeyserConnector.getInstance().getLogger();
@@ -106,6 +124,7 @@ public final class Scoreboard {
 
         team = new Team(this, teamName).addEntities(players);
         teams.put(teamName, team);
+        markDirty(team);
         return team;
     }
 
@@ -131,24 +150,72 @@ public final class Scoreboard {
         }
     }
 
+    /**
+     * Mark an objective to be checked in the next scoreboard update
+     */
+    void markDirty(Objective objective) {
+        dirtyObjectives.add(objective);
+    }
+
+    /**
+     * Mark a team to be checked in the next scoreboard update, along with the scores of all of its entities
+     */
+    void markDirty(Team team) {
+        dirtyTeams.add(team);
+    }
+
+    /**
+     * Mark every displayed score of an entity to be checked in the next scoreboard update
+     */
+    void markScoresDirty(String entity) {
+        for (Objective objective : objectives.values()) {
+            Map<String, Score> scores = objective.getScores();
+            Score score = scores != null ? scores.get(entity) : null;
+            if (score != null) {
+                objective.markScoreDirty(score);
+            }
+        }
+    }
+
     public void onUpdate() {
         List<ScoreInfo> addScores = new ArrayList<>(getLastAddScoreCount());
         List<ScoreInfo> removeScores = new ArrayList<>(getLastRemoveScoreCount());
         List<Objective> removedObjectives = new ArrayList<>();
+        Set<Team> updatedTeams = new HashSet<>();
+        int cost = 0;
+
+        // A changed team changes the display name of all its scores
+        Iterator<Team> dirtyTeamIterator = dirtyTeams.iterator();
+        while (dirtyTeamIterator.hasNext()) {
+            Team team = dirtyTeamIterator.next();
+            dirtyTeamIterator.remove();
+            team.markScoresDirty();
+        }
 
-        for (Objective objective : objectives.values()) {
+        Iterator<Objective> dirtyObjectiveIterator = dirtyObjectives.iterator();
+        while (dirtyObjectiveIterator.hasNext()) {
+            Objective objective = dirtyObjectiveIterator.next();
+            dirtyObjectiveIterator.remove();
+
+            if (objective.getScores() == null) {
+                // Already despawned
+                continue;
+            }
             if (!objective.isActive()) {
                 logger.debug("Ignoring non-active Scoreboard Objective '" + objective.getObjectiveName() + '\'');
                 continue;
             }
 
+            Collection<Score> dirtyScores = objective.pollDirtyScores();
+
             // hearts can't hold teams, so we treat them differently
             if (objective.getType() == 1) {
-                for (Score score : objective.getScores().values()) {
+                for (Score score : dirtyScores) {
+                    cost++;
                     boolean update = score.shouldUpdate();
 
                     if (update) {
-                        score.update(objective.getObjectiveName());
+                        updateScore(score, objective, updatedTeams);
                     }
 
                     if (score.getUpdateType() != REMOVE && update) {
@@ -165,16 +232,19 @@ public final class Scoreboard {
             boolean objectiveAdd = objective.getUpdateType() == ADD;
             boolean objectiveRemove = objective.getUpdateType() == REMOVE;
 
-            for (Score score : objective.getScores().values()) {
+            for (Score score : dirtyScores) {
+                cost++;
                 Team team = score.getTeam();
 
                 boolean add = objectiveAdd || objectiveUpdate;
                 boolean remove = false;
+                boolean teamRemoved = false;
                 if (team != null) {
-                    if (team.getUpdateType() == REMOVE || !team.hasEntity(score.getName())) {
+                    if (team.isRemoved() || !team.hasEntity(score.getName())) {
                         score.setTeam(null);
                         add = true;
                         remove = true;
+                        teamRemoved = true;
                     }
                 }
 
@@ -192,8 +262,9 @@ public final class Scoreboard {
                 if (objectiveRemove && score.getCachedData() != null) {
                     // This score has been sent to the client and needs to be removed since the objective is being removed
                     remove = true;
-                } else if (score.shouldUpdate()) {
-                    score.update(objective.getObjectiveName());
+                } else if (teamRemoved || score.shouldUpdate()) {
+                    // The display name has to be updated if the score was removed from its team
+                    updateScore(score, objective, updatedTeams);
                 }
 
                 if (add) {
@@ -235,18 +306,8 @@ public final class Scoreboard {
             objective.setUpdateType(NOTHING);
         }
 
-        Iterator<Team> teamIterator = teams.values().iterator();
-        while (teamIterator.hasNext()) {
-            Team current = teamIterator.next();
-
-            switch (current.getUpdateType()) {
-                case ADD:
-                case UPDATE:
-                    current.markUpdated();
-                    break;
-                case REMOVE:
-                    teamIterator.remove();
-            }
+        for (Team team : updatedTeams) {
+            team.markUpdated();
         }
 
         if (!removeScores.isEmpty()) {
@@ -270,10 +331,22 @@ public final class Scoreboard {
 
         lastAddScoreCount = addScores.size();
         lastRemoveScoreCount = removeScores.size();
+        lastUpdateCost = cost;
+        totalUpdateCost += cost;
+    }
+
+    private void updateScore(Score score, Objective objective, Set<Team> updatedTeams) {
+        score.update(objective.getObjectiveName());
+        Team team = score.getCachedData().getTeam();
+        if (team != null) {
+            // The team has been prepared for this update and has to be marked as updated afterwards
+            updatedTeams.add(team);
+        }
     }
 
     public void despawnObjective(Objective objective) {
         objectives.remove(objective.getObjectiveName());
+        dirtyObjectives.remove(objective);
         objective.removed();
 
         RemoveObjectivePacket removeObjectivePacket = new RemoveObjectivePacket();
@@ -84,7 +84,8 @@ public class ScoreboardUpdater extends Thread {
                         millisBetweenUpdates = FIRST_MILLIS_BETWEEN_UPDATES;
                     }
 
-                    worldCache.getScoreboard().onUpdate();
+                    Scoreboard scoreboard = worldCache.getScoreboard();
+                    scoreboard.onUpdate();
 
                     if (DEBUG_ENABLED && (currentTime - lastLog > 60000)) { // one minute
                         int threshold = reachedSecondThreshold ?
@@ -95,6 +96,8 @@ public class ScoreboardUpdater extends Thread {
                                 LanguageUtils.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached.log", session.getName(), threshold, pps) +
                                 LanguageUtils.getLocaleStringLog("geyser.scoreboard.updater.threshold_reached", (millisBetweenUpdates / 1000.0))
                         );
+                        GeyserConnector.getInstance().getLogger().debug("Scoreboard of " + session.getName() + " checked " +
+                                scoreboard.getLastUpdateCost() + " scores in the last update and " + scoreboard.getTotalUpdateCost() + " in total");
 
                         lastLog = currentTime;
                     }
@@ -71,6 +71,7 @@ public final class Team {
                 Score score = objective.getScores().get(addedEntity);
                 if (score != null) {
                     score.setTeam(this);
+                    objective.markScoreDirty(score);
                 }
             }
         }
@@ -100,10 +101,28 @@ public final class Team {
 
     public void removeEntities(String... names) {
         for (String name : names) {
-            entities.remove(name);
+            if (entities.remove(name)) {
+                scoreboard.markScoresDirty(name);
+            }
+        }
+    }
+
+    /**
+     * Mark the scores of every entity in this team to be checked in the next scoreboard update
+     */
+    void markScoresDirty() {
+        for (String entity : entities) {
+            scoreboard.markScoresDirty(entity);
         }
     }
 
+    /**
+     * @return if this team has been removed, even if the removal hasn't been sent to the client yet
+     */
+    public boolean isRemoved() {
+        return currentData.updateType == UpdateType.REMOVE;
+    }
+
     public boolean hasEntity(String name) {
         return entities.contains(name);
     }
@@ -173,10 +192,11 @@ public final class Team {
     }
 
     public Team setUpdateType(UpdateType updateType) {
+        currentData.updateType = updateType;
         if (updateType != UpdateType.NOTHING) {
             currentData.updateTime = System.currentTimeMillis();
+            scoreboard.markDirty(this);
         }
-        currentData.updateType = updateType;
         return this;
     }
 
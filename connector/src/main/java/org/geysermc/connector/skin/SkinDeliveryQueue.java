@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2019-2021 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.connector.skin;
+
+import com.nukkitx.math.vector.Vector3f;
+import com.nukkitx.protocol.bedrock.packet.PlayerListPacket;
+import lombok.RequiredArgsConstructor;
+import org.geysermc.connector.entity.player.PlayerEntity;
+import org.geysermc.connector.network.session.GeyserSession;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends player list entries with full skins to a session in order of priority, so a session isn't flooded with
+ * hundreds of skins when joining a busy server. Spawned players closest to the session's player get their skin first,
+ * and players that are only in the player list get theirs last.
+ */
+public class SkinDeliveryQueue {
+    /**
+     * The most skin and cape bytes sent to the client every tick. At least one skin is always sent per tick.
+     */
+    private static final int MAX_BYTES_PER_TICK = 32 * 1024;
+
+    private final GeyserSession session;
+    /**
+     * Entries waiting to be sent by Java UUID. A newer entry for the same player replaces the older one.
+     */
+    private final Map<UUID, PendingSkin> pendingSkins = new ConcurrentHashMap<>();
+    /**
+     * The hash of the skin last sent by Java UUID, for players that are still in the client's player list
+     */
+    private final Map<UUID, Integer> sentSkins = new ConcurrentHashMap<>();
+
+    public SkinDeliveryQueue(GeyserSession session) {
+        this.session = session;
+    }
+
+    /**
+     * Queue a player list entry with a full skin to be sent to the client. Nothing is sent if the client already has
+     * an identical skin for this player.
+     *
+     * @param entity the player the skin belongs to
+     * @param entry the player list entry with the skin
+     * @param size the size of the skin and cape data
+     * @param hash the hash of the skin, cape and geometry
+     */
+    public void queue(PlayerEntity entity, PlayerListPacket.Entry entry, int size, int hash) {
+        Integer sentHash = sentSkins.get(entity.getUuid());
+        if (sentHash != null && sentHash == hash && entity.isPlayerList()) {
+            pendingSkins.remove(entity.getUuid());
+            return;
+        }
+        pendingSkins.put(entity.getUuid(), new PendingSkin(entity, entry, size, hash));
+    }
+
+    /**
+     * Should be called when the client's player list entry for a player is removed or replaced without a full skin.
+     *
+     * @param uuid the Java UUID of the player
+     */
+    public void reset(UUID uuid) {
+        pendingSkins.remove(uuid);
+        sentSkins.remove(uuid);
+    }
+
+    /**
+     * Send as many queued skins as the budget allows for this tick
+     */
+    public void tick() {
+        if (pendingSkins.isEmpty() || !session.getUpstream().isInitialized()) {
+            return;
+        }
+
+        List<PendingSkin> skins = new ArrayList<>(pendingSkins.values());
+        Vector3f position = session.getPlayerEntity().getPosition();
+        for (PendingSkin skin : skins) {
+            PlayerEntity entity = skin.entity;
+            if (session.getEntityCache().getEntityByGeyserId(entity.getGeyserId()) == entity) {
+                // Spawned, so the skin is visible
+                skin.priority = entity.getPosition().distanceSquared(position);
+            } else {
+                skin.priority = Double.MAX_VALUE;
+            }
+        }
+        skins.sort(Comparator.comparingDouble(skin -> skin.priority));
+
+        PlayerListPacket addPacket = new PlayerListPacket();
+        addPacket.setAction(PlayerListPacket.Action.ADD);
+        PlayerListPacket removePacket = new PlayerListPacket();
+        removePacket.setAction(PlayerListPacket.Action.REMOVE);
+
+        int bytes = 0;
+        for (PendingSkin skin : skins) {
+            if (bytes != 0 && bytes + skin.size > MAX_BYTES_PER_TICK) {
+                break;
+            }
+            if (!pendingSkins.remove(skin.entity.getUuid(), skin)) {
+                // Replaced by a newer skin
+                continue;
+            }
+            bytes += skin.size;
+
+            addPacket.getEntries().add(skin.entry);
+            if (skin.entity.isPlayerList()) {
+                sentSkins.put(skin.entity.getUuid(), skin.hash);
+            } else {
+                // Only sent so the skin shows up on the entity
+                removePacket.getEntries().add(skin.entry);
+                sentSkins.remove(skin.entity.getUuid());
+            }
+        }
+
+        if (!addPacket.getEntries().isEmpty()) {
+            session.sendUpstreamPacket(addPacket);
+        }
+        if (!removePacket.getEntries().isEmpty()) {
+            session.sendUpstreamPacket(removePacket);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingSkin {
+        private final PlayerEntity entity;
+        private final PlayerListPacket.Entry entry;
+        private final int size;
+        private final int hash;
+
+        private double priority;
+    }
+}
@@ -40,9 +40,7 @@ import org.geysermc.connector.network.session.auth.BedrockClientData;
 import org.geysermc.connector.utils.LanguageUtils;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.Collections;
-import java.util.UUID;
+import java.util.*;
 import java.util.function.Consumer;
 
 public class SkinManager {
@@ -73,6 +71,67 @@ public class SkinManager {
         );
     }
 
+    /**
+     * Builds a Bedrock player list entry with the default skin and no cape, which is small enough to send for every player
+     * in the list at once. The actual skin is sent later with {@link #queueCachedSkin(GeyserSession, PlayerEntity)}.
+     */
+    public static PlayerListPacket.Entry buildDefaultEntry(GeyserSession session, PlayerEntity playerEntity) {
+        GameProfileData data = GameProfileData.from(playerEntity.getProfile());
+        SkinProvider.Skin skin = data.isAlex() ? SkinProvider.EMPTY_SKIN_ALEX : SkinProvider.EMPTY_SKIN;
+
+        return buildEntryManually(
+                session,
+                playerEntity.getProfile().getId(),
+                playerEntity.getProfile().getName(),
+                playerEntity.getGeyserId(),
+                skin.getTextureUrl(),
+                skin.getSkinData(),
+                SkinProvider.EMPTY_CAPE.getCapeId(),
+                SkinProvider.EMPTY_CAPE.getCapeData(),
+                SkinProvider.SkinGeometry.getLegacy(data.isAlex())
+        );
+    }
+
+    /**
+     * Queues our existing, cached Bedrock skin information to be sent to the session, if it isn't just the default skin
+     */
+    public static void queueCachedSkin(GeyserSession session, PlayerEntity playerEntity) {
+        GameProfileData data = GameProfileData.from(playerEntity.getProfile());
+        SkinProvider.Cape cape = SkinProvider.getCachedCape(data.getCapeUrl());
+        SkinProvider.Skin skin = SkinProvider.getCachedSkin(data.getSkinUrl());
+        if ((skin == null || skin == SkinProvider.EMPTY_SKIN || skin == SkinProvider.EMPTY_SKIN_ALEX) && cape == SkinProvider.EMPTY_CAPE) {
+            return;
+        }
+        if (skin == null) {
+            skin = SkinProvider.EMPTY_SKIN;
+        }
+
+        queueEntry(session, playerEntity, skin, cape, SkinProvider.SkinGeometry.getLegacy(data.isAlex()));
+    }
+
+    /**
+     * Build a player list entry with full skin information and queue it in the session's {@link SkinDeliveryQueue}
+     */
+    private static void queueEntry(GeyserSession session, PlayerEntity entity, SkinProvider.Skin skin,
+                                   SkinProvider.Cape cape, SkinProvider.SkinGeometry geometry) {
+        PlayerListPacket.Entry entry = buildEntryManually(
+                session,
+                entity.getUuid(),
+                entity.getUsername(),
+                entity.getGeyserId(),
+                skin.getTextureUrl(),
+                skin.getSkinData(),
+                cape.getCapeId(),
+                cape.getCapeData(),
+                geometry
+        );
+
+        int size = skin.getSkinData().length + cape.getCapeData().length;
+        int hash = Objects.hash(skin.getTextureUrl(), Arrays.hashCode(skin.getSkinData()), cape.getCapeId(),
+                Arrays.hashCode(cape.getCapeData()), geometry.getGeometryName());
+        session.getSkinDeliveryQueue().queue(entity, entry, size, hash);
+    }
+
     /**
      * With all the information needed, build a Bedrock player entry with translated skin information.
      */
@@ -169,7 +228,10 @@ public class SkinManager {
                             }
                         }
 
-                        if (session.getUpstream().isInitialized()) {
+                        if (!entity.getUuid().equals(session.getPlayerEntity().getUuid())) {
+                            // Other players' skins are sent by priority
+                            queueEntry(session, entity, skin, cape, geometry);
+                        } else if (session.getUpstream().isInitialized()) {
                             PlayerListPacket.Entry updatedEntry = buildEntryManually(
                                     session,
                                     entity.getUuid(),
@@ -40,10 +40,12 @@ import com.nukkitx.nbt.NbtMap;
 import com.nukkitx.protocol.bedrock.packet.LevelChunkPacket;
 import com.nukkitx.protocol.bedrock.packet.NetworkChunkPublisherUpdatePacket;
 import com.nukkitx.protocol.bedrock.packet.UpdateBlockPacket;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
-import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import lombok.Data;
 import lombok.experimental.UtilityClass;
 import org.geysermc.connector.GeyserConnector;
@@ -70,12 +72,6 @@ import static org.geysermc.connector.network.translators.world.block.BlockTransl
 
 @UtilityClass
 public class ChunkUtils {
-    /**
-     * Temporarily stores positions of BlockState values that are needed for certain block entities actively.
-     * Not used if cache chunks is enabled
-     */
-    public static final Object2IntMap<Position> CACHED_BLOCK_ENTITIES = new Object2IntOpenHashMap<>();
-
     private static int indexYZXtoXZY(int yzx) {
         return (yzx >> 8) | (yzx & 0x0F0) | ((yzx & 0x00F) << 8);
     }
@@ -87,6 +83,7 @@ public class ChunkUtils {
         // Temporarily stores compound tags of Bedrock-only block entities
         List<NbtMap> bedrockOnlyBlockEntities = new ArrayList<>();
 
+        BitSet usedPaletteIds = new BitSet();
         BitSet waterloggedPaletteIds = new BitSet();
         BitSet pistonOrFlowerPaletteIds = new BitSet();
 
@@ -137,15 +134,30 @@ public class ChunkUtils {
 
             if (javaPalette instanceof GlobalPalette) {
                 // As this is the global palette, simply iterate through the whole chunk section once
-                ChunkSection section = new ChunkSection(session.getBlockTranslator().getBedrockAirId());
+                // Palette indices are stored first so the data can be written with as few bits as the final palette allows
+                int[] bedrockPaletteIds = new int[BlockStorage.SIZE];
+                IntList bedrockPalette = new IntArrayList();
+                Int2IntMap bedrockPaletteIndex = new Int2IntOpenHashMap();
+                bedrockPaletteIndex.defaultReturnValue(-1);
+                int[] layer1Data = null;
+
                 for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
                     int javaId = javaData.get(yzx);
                     int bedrockId = session.getBlockTranslator().getBedrockBlockId(javaId);
+                    int paletteId = bedrockPaletteIndex.get(bedrockId);
+                    if (paletteId == -1) {
+                        paletteId = bedrockPalette.size();
+                        bedrockPalette.add(bedrockId);
+                        bedrockPaletteIndex.put(bedrockId, paletteId);
+                    }
                     int xzy = indexYZXtoXZY(yzx);
-                    section.getBlockStorageArray()[0].setFullBlock(xzy, bedrockId);
+                    bedrockPaletteIds[xzy] = paletteId;
 
                     if (BlockTranslator.isWaterlogged(javaId)) {
-                        section.getBlockStorageArray()[1].setFullBlock(xzy, session.getBlockTranslator().getBedrockWaterId());
+                        if (layer1Data == null) {
+                            layer1Data = new int[BlockStorage.SIZE >> 5];
+                        }
+                        layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
                     }
 
                     // Check if block is piston or flower to see if we'll need to create additional block entities, as they're only block entities in Bedrock
@@ -156,18 +168,41 @@ public class ChunkUtils {
                         ));
                     }
                 }
-                sections[sectionY] = section;
+
+                BitArray bedrockData = BitArrayVersion.forPaletteSize(bedrockPalette.size()).createArray(BlockStorage.SIZE);
+                for (int xzy = 0; xzy < BlockStorage.SIZE; xzy++) {
+                    bedrockData.set(xzy, bedrockPaletteIds[xzy]);
+                }
+
+                sections[sectionY] = new ChunkSection(createLayers(session, new BlockStorage(bedrockData, bedrockPalette), layer1Data));
                 continue;
             }
 
+            // Only translate palette entries that are in use - Java can leave stale entries in the palette
+            usedPaletteIds.clear();
+            for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                usedPaletteIds.set(javaData.get(yzx));
+            }
+
+            int[] javaToBedrockPaletteIds = new int[javaPalette.size()];
             IntList bedrockPalette = new IntArrayList(javaPalette.size());
+            Int2IntMap bedrockPaletteIndex = new Int2IntOpenHashMap(javaPalette.size());
+            bedrockPaletteIndex.defaultReturnValue(-1);
             waterloggedPaletteIds.clear();
             pistonOrFlowerPaletteIds.clear();
 
             // Iterate through palette and convert state IDs to Bedrock, doing some additional checks as we go
-            for (int i = 0; i < javaPalette.size(); i++) {
+            // Multiple Java states can map to the same Bedrock state, so those share one Bedrock palette entry
+            for (int i = usedPaletteIds.nextSetBit(0); i >= 0 && i < javaPalette.size(); i = usedPaletteIds.nextSetBit(i + 1)) {
                 int javaId = javaPalette.idToState(i);
-                bedrockPalette.add(session.getBlockTranslator().getBedrockBlockId(javaId));
+                int bedrockId = session.getBlockTranslator().getBedrockBlockId(javaId);
+                int bedrockPaletteId = bedrockPaletteIndex.get(bedrockId);
+                if (bedrockPaletteId == -1) {
+                    bedrockPaletteId = bedrockPalette.size();
+                    bedrockPalette.add(bedrockId);
+                    bedrockPaletteIndex.put(bedrockId, bedrockPaletteId);
+                }
+                javaToBedrockPaletteIds[i] = bedrockPaletteId;
 
                 if (BlockTranslator.isWaterlogged(javaId)) {
                     waterloggedPaletteIds.set(i);
@@ -194,103 +229,119 @@ public class ChunkUtils {
                 }
             }
 
-            BitArray bedrockData = BitArrayVersion.forBitsCeil(javaData.getBitsPerEntry()).createArray(BlockStorage.SIZE);
-            BlockStorage layer0 = new BlockStorage(bedrockData, bedrockPalette);
-            BlockStorage[] layers;
+            BitArray bedrockData = BitArrayVersion.forPaletteSize(bedrockPalette.size()).createArray(BlockStorage.SIZE);
+            int[] layer1Data = null;
 
             // Convert data array from YZX to XZY coordinate order
             if (waterloggedPaletteIds.isEmpty()) {
                 // No blocks are waterlogged, simply convert coordinate order
                 // This could probably be optimized further...
                 for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                    bedrockData.set(indexYZXtoXZY(yzx), javaData.get(yzx));
+                    bedrockData.set(indexYZXtoXZY(yzx), javaToBedrockPaletteIds[javaData.get(yzx)]);
                 }
-
-                layers = new BlockStorage[]{ layer0 };
             } else {
                 // The section contains waterlogged blocks, we need to convert coordinate order AND generate a V1 block storage for
                 // layer 1 with palette ID 1 indicating water
-                int[] layer1Data = new int[BlockStorage.SIZE >> 5];
+                layer1Data = new int[BlockStorage.SIZE >> 5];
                 for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
                     int paletteId = javaData.get(yzx);
                     int xzy = indexYZXtoXZY(yzx);
-                    bedrockData.set(xzy, paletteId);
+                    bedrockData.set(xzy, javaToBedrockPaletteIds[paletteId]);
 
                     if (waterloggedPaletteIds.get(paletteId)) {
                         layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
                     }
                 }
-
-                // V1 palette
-                IntList layer1Palette = new IntArrayList(2);
-                layer1Palette.add(session.getBlockTranslator().getBedrockAirId()); // Air - see BlockStorage's constructor for more information
-                layer1Palette.add(session.getBlockTranslator().getBedrockWaterId());
-
-                layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
             }
 
-            sections[sectionY] = new ChunkSection(layers);
+            sections[sectionY] = new ChunkSection(createLayers(session, new BlockStorage(bedrockData, bedrockPalette), layer1Data));
         }
 
         CompoundTag[] blockEntities = column.getTileEntities();
         NbtMap[] bedrockBlockEntities = new NbtMap[blockEntities.length + bedrockOnlyBlockEntities.size()];
         int i = 0;
         while (i < blockEntities.length) {
-            CompoundTag tag = blockEntities[i];
-            String tagName;
-            if (tag.contains("id")) {
-                tagName = (String) tag.get("id").getValue();
-            } else {
-                tagName = "Empty";
-                // Sometimes legacy tags have their ID be a StringTag with empty value
-                for (Tag subTag : tag) {
-                    if (subTag instanceof StringTag) {
-                        StringTag stringTag = (StringTag) subTag;
-                        if (stringTag.getValue().isEmpty()) {
-                            tagName = stringTag.getName();
-                            break;
-                        }
+            bedrockBlockEntities[i] = translateBlockEntity(session, column, blockEntities[i]);
+            i++;
+        }
+
+        // Append Bedrock-exclusive block entities to output array
+        for (NbtMap tag : bedrockOnlyBlockEntities) {
+            bedrockBlockEntities[i] = tag;
+            i++;
+        }
+
+        return new ChunkData(sections, bedrockBlockEntities);
+    }
+
+    /**
+     * Translates a Java block entity into its Bedrock tag.
+     *
+     * @param column the column the block entity is in, used to look up its block state
+     * @param tag the Java block entity
+     * @return the Bedrock block entity tag
+     */
+    public static NbtMap translateBlockEntity(GeyserSession session, Column column, CompoundTag tag) {
+        String tagName;
+        if (tag.contains("id")) {
+            tagName = (String) tag.get("id").getValue();
+        } else {
+            tagName = "Empty";
+            // Sometimes legacy tags have their ID be a StringTag with empty value
+            for (Tag subTag : tag) {
+                if (subTag instanceof StringTag) {
+                    StringTag stringTag = (StringTag) subTag;
+                    if (stringTag.getValue().isEmpty()) {
+                        tagName = stringTag.getName();
+                        break;
                     }
                 }
-                if (tagName.equals("Empty")) {
-                    GeyserConnector.getInstance().getLogger().debug("Got tag with no id: " + tag.getValue());
-                }
             }
+            if (tagName.equals("Empty")) {
+                GeyserConnector.getInstance().getLogger().debug("Got tag with no id: " + tag.getValue());
+            }
+        }
 
-            String id = BlockEntityUtils.getBedrockBlockEntityId(tagName);
-            Position pos = new Position((int) tag.get("x").getValue(), (int) tag.get("y").getValue(), (int) tag.get("z").getValue());
+        String id = BlockEntityUtils.getBedrockBlockEntityId(tagName);
+        Position pos = new Position((int) tag.get("x").getValue(), (int) tag.get("y").getValue(), (int) tag.get("z").getValue());
 
-            // Get Java blockstate ID from block entity position
-            int blockState = 0;
-            Chunk section = column.getChunks()[pos.getY() >> 4];
-            if (section != null) {
-                blockState = section.get(pos.getX() & 0xF, pos.getY() & 0xF, pos.getZ() & 0xF);
-            }
+        // Get Java blockstate ID from block entity position
+        int blockState = 0;
+        Chunk section = column.getChunks()[pos.getY() >> 4];
+        if (section != null) {
+            blockState = section.get(pos.getX() & 0xF, pos.getY() & 0xF, pos.getZ() & 0xF);
+        }
 
-            if (tagName.equals("minecraft:lectern") && BlockStateValues.getLecternBookStates().get(blockState)) {
-                // If getLecternBookStates is false, let's just treat it like a normal block entity
-                bedrockBlockEntities[i] = session.getConnector().getWorldManager().getLecternDataAt(session, pos.getX(), pos.getY(), pos.getZ(), true);
-                i++;
-                continue;
-            }
+        if (tagName.equals("minecraft:lectern") && BlockStateValues.getLecternBookStates().get(blockState)) {
+            // If getLecternBookStates is false, let's just treat it like a normal block entity
+            return session.getConnector().getWorldManager().getLecternDataAt(session, pos.getX(), pos.getY(), pos.getZ(), true);
+        }
 
-            BlockEntityTranslator blockEntityTranslator = BlockEntityUtils.getBlockEntityTranslator(id);
-            bedrockBlockEntities[i] = blockEntityTranslator.getBlockEntityTag(tagName, tag, blockState);
+        BlockEntityTranslator blockEntityTranslator = BlockEntityUtils.getBlockEntityTranslator(id);
+        NbtMap bedrockTag = blockEntityTranslator.getBlockEntityTag(tagName, tag, blockState);
 
-            // Check for custom skulls
-            if (SkullBlockEntityTranslator.ALLOW_CUSTOM_SKULLS && tag.contains("SkullOwner")) {
-                SkullBlockEntityTranslator.spawnPlayer(session, tag, blockState);
-            }
-            i++;
+        // Check for custom skulls
+        if (SkullBlockEntityTranslator.ALLOW_CUSTOM_SKULLS && tag.contains("SkullOwner")) {
+            SkullBlockEntityTranslator.spawnPlayer(session, tag, blockState);
         }
+        return bedrockTag;
+    }
 
-        // Append Bedrock-exclusive block entities to output array
-        for (NbtMap tag : bedrockOnlyBlockEntities) {
-            bedrockBlockEntities[i] = tag;
-            i++;
+    /**
+     * @param layer1Data the waterlogged blocks of this section as a V1 bit array, or null if there are none
+     * @return the block storages of a translated section
+     */
+    private static BlockStorage[] createLayers(GeyserSession session, BlockStorage layer0, int[] layer1Data) {
+        if (layer1Data == null) {
+            return new BlockStorage[]{ layer0 };
         }
 
-        return new ChunkData(sections, bedrockBlockEntities);
+        // V1 palette
+        IntList layer1Palette = new IntArrayList(2);
+        layer1Palette.add(session.getBlockTranslator().getBedrockAirId()); // Air - see BlockStorage's constructor for more information
+        layer1Palette.add(session.getBlockTranslator().getBedrockWaterId());
+
+        return new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
     }
 
     public static void updateChunkPosition(GeyserSession session, Vector3i position) {
@@ -327,12 +378,69 @@ public class ChunkUtils {
      * @param position the position of the block
      */
     public static void updateBlock(GeyserSession session, int blockState, Vector3i position) {
+        // We don't know what the client had here before, so always update the water layer
+        if (sendBlockUpdate(session, blockState, position, true)) {
+            session.getChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState);
+        }
+    }
+
+    /**
+     * Sends many block updates to the Bedrock client at once, such as from a multi block change or an explosion.
+     * Updates are grouped by chunk section so each cached section is only looked up once, and, if the previous block
+     * is known from the chunk cache, the water layer is only updated if either block is waterlogged.
+     *
+     * @param session the Bedrock session to send/register the blocks to
+     * @param blockStates the Java block state of each block
+     * @param positions the position of each block
+     */
+    public static void updateBlocks(GeyserSession session, int[] blockStates, Vector3i[] positions) {
+        Long2ObjectMap<IntList> sectionUpdates = new Long2ObjectOpenHashMap<>();
+        for (int i = 0; i < positions.length; i++) {
+            Vector3i position = positions[i];
+            long sectionKey = sectionPositionToLong(position.getX() >> 4, position.getY() >> 4, position.getZ() >> 4);
+            IntList updates = sectionUpdates.get(sectionKey);
+            if (updates == null) {
+                updates = new IntArrayList();
+                sectionUpdates.put(sectionKey, updates);
+            }
+            updates.add(i);
+        }
+
+        for (IntList updates : sectionUpdates.values()) {
+            Vector3i first = positions[updates.getInt(0)];
+            Chunk section = session.getChunkCache().getChunkSection(first.getX() >> 4, first.getY() >> 4, first.getZ() >> 4);
+
+            for (int j = 0; j < updates.size(); j++) {
+                int index = updates.getInt(j);
+                int blockState = blockStates[index];
+                Vector3i position = positions[index];
+
+                boolean updateWaterLayer = true;
+                if (section != null) {
+                    int previousBlockState = section.get(position.getX() & 0xF, position.getY() & 0xF, position.getZ() & 0xF);
+                    updateWaterLayer = BlockUpdateFlags.isWaterlogged(previousBlockState) || BlockUpdateFlags.isWaterlogged(blockState);
+                }
+
+                if (sendBlockUpdate(session, blockState, position, updateWaterLayer) && section != null) {
+                    section.set(position.getX() & 0xF, position.getY() & 0xF, position.getZ() & 0xF, blockState);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a block update and refreshes any Bedrock state tied to the block, without touching the chunk cache.
+     *
+     * @param updateWaterLayer whether the second layer needs to be set to water or air
+     * @return false if an item frame took over this update and the chunk cache should not be changed
+     */
+    private static boolean sendBlockUpdate(GeyserSession session, int blockState, Vector3i position, boolean updateWaterLayer) {
         // Checks for item frames so they aren't tripped up and removed
         ItemFrameEntity itemFrameEntity = ItemFrameEntity.getItemFrameEntity(session, position);
         if (itemFrameEntity != null) {
             if (blockState == JAVA_AIR_ID) { // Item frame is still present and no block overrides that; refresh it
                 itemFrameEntity.updateBlock(session);
-                return;
+                return false;
             }
             // Otherwise, let's still store our reference to the item frame, but let the new block take precedence for now
         }
@@ -353,59 +461,61 @@ public class ChunkUtils {
         updateBlockPacket.getFlags().add(UpdateBlockPacket.Flag.NETWORK);
         session.sendUpstreamPacket(updateBlockPacket);
 
-        UpdateBlockPacket waterPacket = new UpdateBlockPacket();
-        waterPacket.setDataLayer(1);
-        waterPacket.setBlockPosition(position);
-        if (BlockTranslator.isWaterlogged(blockState)) {
-            waterPacket.setRuntimeId(session.getBlockTranslator().getBedrockWaterId());
-        } else {
-            waterPacket.setRuntimeId(session.getBlockTranslator().getBedrockAirId());
+        byte flags = BlockUpdateFlags.get(blockState);
+
+        if (updateWaterLayer) {
+            UpdateBlockPacket waterPacket = new UpdateBlockPacket();
+            waterPacket.setDataLayer(1);
+            waterPacket.setBlockPosition(position);
+            if ((flags & BlockUpdateFlags.WATERLOGGED) != 0) {
+                waterPacket.setRuntimeId(session.getBlockTranslator().getBedrockWaterId());
+            } else {
+                waterPacket.setRuntimeId(session.getBlockTranslator().getBedrockAirId());
+            }
+            session.sendUpstreamPacket(waterPacket);
         }
-        session.sendUpstreamPacket(waterPacket);
-
-        BlockStateValues.getLecternBookStates().compute(blockState, (key, newLecternHasBook) -> {
-            // Determine if this block is a lectern
-            if (newLecternHasBook != null) {
-                boolean lecternCachedHasBook = session.getLecternCache().contains(position);
-                if (!session.getConnector().getWorldManager().shouldExpectLecternHandled() && lecternCachedHasBook != newLecternHasBook) {
-                    // Refresh the block entirely - it either has a book or no longer has a book
-                    NbtMap newLecternTag;
-                    if (newLecternHasBook) {
-                        newLecternTag = session.getConnector().getWorldManager().getLecternDataAt(session, position.getX(), position.getY(), position.getZ(), false);
-                    } else {
-                        session.getLecternCache().remove(position);
-                        newLecternTag = LecternInventoryTranslator.getBaseLecternTag(position.getX(), position.getY(), position.getZ(), 0).build();
-                    }
-                    BlockEntityUtils.updateBlockEntity(session, newLecternTag, position);
+
+        // Determine if this block is a lectern
+        if ((flags & BlockUpdateFlags.LECTERN) != 0) {
+            boolean newLecternHasBook = BlockStateValues.getLecternBookStates().get(blockState);
+            boolean lecternCachedHasBook = session.getLecternCache().contains(position);
+            if (!session.getConnector().getWorldManager().shouldExpectLecternHandled() && lecternCachedHasBook != newLecternHasBook) {
+                // Refresh the block entirely - it either has a book or no longer has a book
+                NbtMap newLecternTag;
+                if (newLecternHasBook) {
+                    newLecternTag = session.getConnector().getWorldManager().getLecternDataAt(session, position.getX(), position.getY(), position.getZ(), false);
                 } else {
-                    // As of right now, no tag can be added asynchronously
-                    session.getConnector().getWorldManager().getLecternDataAt(session, position.getX(), position.getY(), position.getZ(), false);
+                    session.getLecternCache().remove(position);
+                    newLecternTag = LecternInventoryTranslator.getBaseLecternTag(position.getX(), position.getY(), position.getZ(), 0).build();
                 }
+                BlockEntityUtils.updateBlockEntity(session, newLecternTag, position);
             } else {
-                // Lectern has been destroyed, if it existed
-                session.getLecternCache().remove(position);
+                // As of right now, no tag can be added asynchronously
+                session.getConnector().getWorldManager().getLecternDataAt(session, position.getX(), position.getY(), position.getZ(), false);
             }
-            return newLecternHasBook;
-        });
+        } else if (!session.getLecternCache().isEmpty()) {
+            // Lectern has been destroyed, if it existed
+            session.getLecternCache().remove(position);
+        }
 
         // Since Java stores bed colors/skull information as part of the namespaced ID and Bedrock stores it as a tag
         // This is the only place I could find that interacts with the Java block state and block updates
-        // Iterates through all block entity translators and determines if the block state needs to be saved
-        for (RequiresBlockState requiresBlockState : BlockEntityTranslator.REQUIRES_BLOCK_STATE_LIST) {
-            if (requiresBlockState.isBlock(blockState)) {
-                // Flower pots are block entities only in Bedrock and are not updated anywhere else like note blocks
-                if (requiresBlockState instanceof BedrockOnlyBlockEntity) {
-                    ((BedrockOnlyBlockEntity) requiresBlockState).updateBlock(session, blockState, position);
-                    break;
-                }
-                if (!session.getConnector().getConfig().isCacheChunks()) {
-                    // Blocks aren't saved to a chunk cache; resort to this smaller cache
-                    CACHED_BLOCK_ENTITIES.put(new Position(position.getX(), position.getY(), position.getZ()), blockState);
-                }
-                break; //No block will be a part of two classes
+        // Determines if the block state needs to be saved - no block will be a part of two classes
+        RequiresBlockState requiresBlockState = BlockUpdateFlags.getRequiresBlockState(blockState);
+        if (requiresBlockState != null) {
+            // Flower pots are block entities only in Bedrock and are not updated anywhere else like note blocks
+            if (requiresBlockState instanceof BedrockOnlyBlockEntity) {
+                ((BedrockOnlyBlockEntity) requiresBlockState).updateBlock(session, blockState, position);
+            } else if (!session.getConnector().getConfig().isCacheChunks()) {
+                // Blocks aren't saved to a chunk cache; resort to this smaller cache
+                session.getBlockEntityStateCache().put(position.getX(), position.getY(), position.getZ(), blockState);
             }
         }
-        session.getChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState);
+        return true;
+    }
+
+    private static long sectionPositionToLong(int sectionX, int sectionY, int sectionZ) {
+        return ((sectionX & 0x3FFFFFL) << 42) | ((sectionZ & 0x3FFFFFL) << 20) | (sectionY & 0xFFFFFL);
     }
 
     public static void sendEmptyChunks(GeyserSession session, Vector3i position, int radius, boolean forceUpdate) {
@@ -439,4 +549,51 @@ public class ChunkUtils {
 
         private final NbtMap[] blockEntities;
     }
+
+    /**
+     * Which additional work is needed when a block is updated, indexed by Java block state.
+     * Built on first use, as the block entity translators need to be loaded first.
+     */
+    private static final class BlockUpdateFlags {
+        static final byte WATERLOGGED = 1;
+        static final byte LECTERN = 1 << 1;
+
+        private static final byte[] FLAGS;
+        private static final RequiresBlockState[] REQUIRES_BLOCK_STATE;
+
+        static {
+            int stateCount = BlockTranslator.getJavaIdBlockMap().size();
+            FLAGS = new byte[stateCount];
+            REQUIRES_BLOCK_STATE = new RequiresBlockState[stateCount];
+            for (int state = 0; state < stateCount; state++) {
+                byte flags = 0;
+                if (BlockTranslator.isWaterlogged(state)) {
+                    flags |= WATERLOGGED;
+                }
+                if (BlockStateValues.getLecternBookStates().containsKey(state)) {
+                    flags |= LECTERN;
+                }
+                FLAGS[state] = flags;
+
+                for (RequiresBlockState requiresBlockState : BlockEntityTranslator.REQUIRES_BLOCK_STATE_LIST) {
+                    if (requiresBlockState.isBlock(state)) {
+                        REQUIRES_BLOCK_STATE[state] = requiresBlockState;
+                        break;
+                    }
+                }
+            }
+        }
+
+        static byte get(int blockState) {
+            return blockState >= 0 && blockState < FLAGS.length ? FLAGS[blockState] : 0;
+        }
+
+        static boolean isWaterlogged(int blockState) {
+            return (get(blockState) & WATERLOGGED) != 0;
+        }
+
+        static RequiresBlockState getRequiresBlockState(int blockState) {
+            return blockState >= 0 && blockState < REQUIRES_BLOCK_STATE.length ? REQUIRES_BLOCK_STATE[blockState] : null;
+        }
+    }
 }
@@ -59,6 +59,7 @@ public class DimensionUtils {
         Entity player = session.getPlayerEntity();
 
         session.getEntityCache().removeAllEntities();
+        session.getBlockEntityStateCache().clear();
         session.getItemFrameCache().clear();
         session.getLecternCache().clear();
         session.getSkullCache().clear();
@@ -27,7 +27,9 @@ package org.geysermc.connector.utils;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import org.geysermc.connector.GeyserConnector;
 import org.reflections.Reflections;
@@ -42,6 +44,10 @@ import java.security.MessageDigest;
 import java.util.function.Function;
 
 public class FileUtils {
+    /**
+     * Reads the binary Smile snapshots of JSON resources made during the build
+     */
+    private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
 
     /**
      * Load the given YAML file into the given class
@@ -157,6 +163,27 @@ public class FileUtils {
         return stream;
     }
 
+    /**
+     * Read a JSON resource such as a mappings file. The build stores a binary Smile copy of every JSON mapping next
+     * to it, which is read instead when it exists as it parses much faster than text.
+     *
+     * @param resource the path of the JSON resource
+     * @return the root node of the resource
+     * @throws IOException if the resource could not be read
+     */
+    public static JsonNode readJsonResource(String resource) throws IOException {
+        String snapshot = resource.substring(0, resource.length() - ".json".length()) + ".smile";
+        InputStream stream = FileUtils.class.getClassLoader().getResourceAsStream(snapshot);
+        if (stream != null) {
+            try (InputStream snapshotStream = stream) {
+                return SMILE_MAPPER.readTree(snapshotStream);
+            }
+        }
+        try (InputStream jsonStream = getResource(resource)) {
+            return GeyserConnector.JSON_MAPPER.readTree(jsonStream);
+        }
+    }
+
     /**
      * Calculate the SHA256 hash of a file
      *
@@ -26,24 +26,65 @@
 package org.geysermc.connector.utils;
 
 import com.github.steveice10.mc.protocol.data.game.advancement.Advancement;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import lombok.NonNull;
 import org.geysermc.connector.network.session.cache.AdvancementsCache;
 
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 /**
- * A wrapper around MCProtocolLib's {@link Advancement} class so we can control the parent of an advancement
+ * A wrapper around MCProtocolLib's {@link Advancement} class so we can control the parent of an advancement.
+ * Advancements are identical for every player on a server, so equal advancements share one instance between sessions.
  */
 public class GeyserAdvancement {
+    /**
+     * Every advancement in use by a session, keyed by its contents. Unused advancements are removed by the garbage collector.
+     */
+    private static final Cache<Advancement, GeyserAdvancement> ADVANCEMENTS = CacheBuilder.newBuilder()
+            .weakValues()
+            .build();
+
     private final Advancement advancement;
-    private String rootId = null;
+    /**
+     * The index of every criterion in {@link #getCriteria()}
+     */
+    private final Object2IntMap<String> criteriaIndexes;
+    /**
+     * {@link #getRequirements()} as criteria indexes
+     */
+    private final int[][] requirementIndexes;
 
     public static GeyserAdvancement from(Advancement advancement) {
-        return new GeyserAdvancement(advancement);
+        try {
+            return ADVANCEMENTS.get(advancement, () -> new GeyserAdvancement(advancement));
+        } catch (ExecutionException e) {
+            return new GeyserAdvancement(advancement);
+        }
     }
 
     private GeyserAdvancement(Advancement advancement) {
         this.advancement = advancement;
+
+        List<String> criteria = advancement.getCriteria();
+        this.criteriaIndexes = new Object2IntOpenHashMap<>(criteria.size());
+        this.criteriaIndexes.defaultReturnValue(-1);
+        for (int i = 0; i < criteria.size(); i++) {
+            this.criteriaIndexes.put(criteria.get(i), i);
+        }
+
+        List<List<String>> requirements = advancement.getRequirements();
+        this.requirementIndexes = new int[requirements.size()][];
+        for (int i = 0; i < requirements.size(); i++) {
+            List<String> requirement = requirements.get(i);
+            this.requirementIndexes[i] = new int[requirement.size()];
+            for (int j = 0; j < requirement.size(); j++) {
+                this.requirementIndexes[i][j] = this.criteriaIndexes.getInt(requirement.get(j));
+            }
+        }
     }
 
     @NonNull
@@ -70,20 +111,72 @@ public class GeyserAdvancement {
     }
 
     public String getRootId(AdvancementsCache advancementsCache) {
-        if (rootId == null) {
-            if (this.advancement.getParentId() == null) {
-                // We are the root ID
-                this.rootId = this.advancement.getId();
-            } else {
-                // Go through our cache, and descend until we find the root ID
-                GeyserAdvancement advancement = advancementsCache.getStoredAdvancements().get(this.advancement.getParentId());
-                if (advancement.getParentId() == null) {
-                    this.rootId = advancement.getId();
-                } else {
-                    this.rootId = advancement.getRootId(advancementsCache);
+        // Not stored, as the parents are looked up in the cache of one session and this advancement is shared
+        GeyserAdvancement advancement = this;
+        while (advancement.getParentId() != null) {
+            // Go through our cache, and descend until we find the root ID
+            GeyserAdvancement parent = advancementsCache.getStoredAdvancements().get(advancement.getParentId());
+            if (parent == null) {
+                break;
+            }
+            advancement = parent;
+        }
+        return advancement.getId();
+    }
+
+    /**
+     * @param obtainedCriteria the names of the obtained criteria
+     * @return the obtained criteria as a bitset of indexes in {@link #getCriteria()}
+     */
+    public BitSet toCriteriaBits(Collection<String> obtainedCriteria) {
+        BitSet bits = new BitSet(getCriteria().size());
+        for (String criterion : obtainedCriteria) {
+            int index = criteriaIndexes.getInt(criterion);
+            if (index != -1) {
+                bits.set(index);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * @param criteriaBits the obtained criteria as a bitset of indexes in {@link #getCriteria()}
+     * @return the names of the obtained criteria
+     */
+    public Set<String> fromCriteriaBits(BitSet criteriaBits) {
+        Set<String> obtainedCriteria = new HashSet<>();
+        for (int i = criteriaBits.nextSetBit(0); i >= 0; i = criteriaBits.nextSetBit(i + 1)) {
+            obtainedCriteria.add(getCriteria().get(i));
+        }
+        return obtainedCriteria;
+    }
+
+    /**
+     * Determine if this advancement has been earned.
+     *
+     * @param criteriaBits the obtained criteria as a bitset of indexes in {@link #getCriteria()}
+     * @return true if the advancement has been earned.
+     */
+    public boolean isEarned(BitSet criteriaBits) {
+        if (requirementIndexes.length == 0) {
+            // Minecraft handles this case, so we better as well
+            return false;
+        }
+        // Each advancement's requirement must be fulfilled
+        // For example, [[zombie, blaze, skeleton]] means that one of those three categories must be achieved
+        // But [[zombie], [blaze], [skeleton]] means that all three requirements must be completed
+        for (int[] requirement : requirementIndexes) {
+            boolean requirementDone = false;
+            for (int index : requirement) {
+                if (index != -1 && criteriaBits.get(index)) {
+                    requirementDone = true;
+                    break;
                 }
             }
+            if (!requirementDone) {
+                return false;
+            }
         }
-        return rootId;
+        return true;
     }
 }
@@ -29,21 +29,52 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.steveice10.mc.protocol.MinecraftConstants;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import lombok.Getter;
 import org.geysermc.connector.GeyserConnector;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipFile;
 
 public class LocaleUtils {
 
-    public static final Map<String, Map<String, String>> LOCALE_MAPPINGS = new HashMap<>();
+    /**
+     * The maximum amount of Java locales kept in memory. Past this, the least recently used locale other than
+     * the default is unloaded, and loaded again from disk when it's next needed.
+     */
+    private static final int MAX_LOADED_LOCALES = 16;
+
+    /**
+     * Loaded locales, read without locking by translations
+     */
+    private static final Map<String, LocaleTable> LOADED_LOCALES = new ConcurrentHashMap<>();
+    /**
+     * Locales being loaded again from disk after being unloaded
+     */
+    private static final Set<String> LOADING_LOCALES = ConcurrentHashMap.newKeySet();
+    /**
+     * Held while loading and unloading locales, and while adding keys to {@link #keyIndexes}
+     */
+    private static final Object LOAD_LOCK = new Object();
+    /**
+     * The index of each translation key, shared between all locales as they mostly have the same keys. Replaced
+     * with a new map when a locale adds keys, so it can be read without locking.
+     */
+    private static volatile Object2IntMap<String> keyIndexes = createKeyIndexes(Collections.emptyMap());
+    /**
+     * Locales that have been downloaded and can be loaded from disk
+     */
+    private static final Set<String> DOWNLOADED_LOCALES = ConcurrentHashMap.newKeySet();
+    /**
+     * Lowercase versions of locale names, so they don't need to be lowercased on every translation
+     */
+    private static final Map<String, String> LOWERCASE_LOCALES = new ConcurrentHashMap<>();
 
     private static final Map<String, Asset> ASSET_MAP = new HashMap<>();
 
@@ -114,6 +145,10 @@ public class LocaleUtils {
         locale = locale.toLowerCase();
 
         // Check the locale isn't already loaded
+        if (DOWNLOADED_LOCALES.contains(locale)) {
+            return;
+        }
+
         if (!ASSET_MAP.containsKey("minecraft/lang/" + locale + ".json") && !locale.equals("en_us")) {
             GeyserConnector.getInstance().getLogger().warning(LanguageUtils.getLocaleStringLog("geyser.locale.fail.invalid", locale));
             return;
@@ -122,7 +157,17 @@ public class LocaleUtils {
         GeyserConnector.getInstance().getLogger().debug("Downloading and loading locale: " + locale);
 
         downloadLocale(locale);
-        loadLocale(locale);
+        if (loadLocale(locale)) {
+            DOWNLOADED_LOCALES.add(locale);
+        }
+    }
+
+    /**
+     * @param locale the locale to check
+     * @return true if the locale has been downloaded and can be used for translations
+     */
+    public static boolean isLocaleLoaded(String locale) {
+        return DOWNLOADED_LOCALES.contains(locale.toLowerCase());
     }
 
     /**
@@ -184,11 +229,12 @@ public class LocaleUtils {
     }
 
     /**
-     * Loads a locale already downloaded, if the file doesn't exist it just logs a warning
+     * Loads a locale already downloaded, if the file doesn't exist it just logs a warning.
      *
      * @param locale Locale to load
+     * @return true if the locale was loaded
      */
-    private static void loadLocale(String locale) {
+    private static boolean loadLocale(String locale) {
         File localeFile = GeyserConnector.getInstance().getBootstrap().getConfigFolder().resolve("locales/" + locale + ".json").toFile();
 
         // Load the locale
@@ -210,24 +256,102 @@ public class LocaleUtils {
             }
 
             // Parse all the locale fields
-            Iterator<Map.Entry<String, JsonNode>> localeIterator = localeObj.fields();
-            Map<String, String> langMap = new HashMap<>();
-            while (localeIterator.hasNext()) {
-                Map.Entry<String, JsonNode> entry = localeIterator.next();
-                langMap.put(entry.getKey(), entry.getValue().asText());
+            synchronized (LOAD_LOCK) {
+                LOADED_LOCALES.put(locale.toLowerCase(), LocaleTable.fromJson(localeObj));
+                unloadLeastRecentlyUsedLocale();
             }
-
-            // Insert the locale into the mappings
-            LOCALE_MAPPINGS.put(locale.toLowerCase(), langMap);
+            GeyserConnector.getInstance().getLogger().debug(getMemoryReport());
 
             try {
                 localeStream.close();
             } catch (IOException e) {
                 throw new AssertionError(LanguageUtils.getLocaleStringLog("geyser.locale.fail.file", locale, e.getMessage()));
             }
+            return true;
         } else {
             GeyserConnector.getInstance().getLogger().warning(LanguageUtils.getLocaleStringLog("geyser.locale.fail.missing", locale));
+            return false;
+        }
+    }
+
+    /**
+     * Must be called while holding {@link #LOAD_LOCK}
+     */
+    private static void unloadLeastRecentlyUsedLocale() {
+        if (LOADED_LOCALES.size() <= MAX_LOADED_LOCALES) {
+            return;
+        }
+        String defaultLocale = LanguageUtils.getDefaultLocale().toLowerCase();
+        String leastRecentlyUsed = null;
+        long oldestUse = Long.MAX_VALUE;
+        for (Map.Entry<String, LocaleTable> entry : LOADED_LOCALES.entrySet()) {
+            if (!entry.getKey().equals(defaultLocale) && entry.getValue().lastUsed < oldestUse) {
+                leastRecentlyUsed = entry.getKey();
+                oldestUse = entry.getValue().lastUsed;
+            }
+        }
+        if (leastRecentlyUsed != null) {
+            GeyserConnector.getInstance().getLogger().debug("Unloading least recently used locale: " + leastRecentlyUsed);
+            LOADED_LOCALES.remove(leastRecentlyUsed);
+        }
+    }
+
+    /**
+     * Get a loaded locale. If it was unloaded, it is loaded again from disk in the background and null is returned
+     * in the meantime.
+     *
+     * @param locale the lowercase locale
+     * @return the locale, or null if it isn't loaded
+     */
+    private static LocaleTable getLocaleTable(String locale) {
+        LocaleTable table = LOADED_LOCALES.get(locale);
+        if (table != null) {
+            table.lastUsed = System.nanoTime();
+        } else if (DOWNLOADED_LOCALES.contains(locale) && LOADING_LOCALES.add(locale)) {
+            GeyserConnector.getInstance().getGeneralThreadPool().execute(() -> {
+                try {
+                    loadLocale(locale);
+                } finally {
+                    LOADING_LOCALES.remove(locale);
+                }
+            });
+        }
+        return table;
+    }
+
+    private static Object2IntMap<String> createKeyIndexes(Map<String, Integer> indexes) {
+        Object2IntMap<String> map = new Object2IntOpenHashMap<>(indexes);
+        map.defaultReturnValue(-1);
+        return map;
+    }
+
+    private static String toLowerCaseLocale(String locale) {
+        String lowerCaseLocale = LOWERCASE_LOCALES.get(locale);
+        if (lowerCaseLocale == null) {
+            lowerCaseLocale = locale.toLowerCase(Locale.ROOT);
+            // Locales come from clients, so don't let this grow forever
+            if (LOWERCASE_LOCALES.size() < 256) {
+                LOWERCASE_LOCALES.put(locale, lowerCaseLocale);
+            }
+        }
+        return lowerCaseLocale;
+    }
+
+    /**
+     * @return a summary of the memory used by loaded Java locales, for debugging
+     */
+    public static String getMemoryReport() {
+        StringBuilder builder = new StringBuilder("Java locales: ").append(keyIndexes.size()).append(" shared keys;");
+        long totalBytes = 0;
+        int loadedLocales = 0;
+        for (Map.Entry<String, LocaleTable> entry : LOADED_LOCALES.entrySet()) {
+            long bytes = entry.getValue().getSizeInBytes();
+            totalBytes += bytes;
+            loadedLocales++;
+            builder.append(' ').append(entry.getKey()).append('=').append(bytes / 1024).append("KB");
         }
+        return builder.append("; ").append(totalBytes / 1024).append("KB total for ")
+                .append(loadedLocales).append(" loaded locale(s)").toString();
     }
 
     /**
@@ -281,9 +405,9 @@ public class LocaleUtils {
      * @return Translated string or the original message if it was not found in the given locale
      */
     public static String getLocaleString(String messageText, String locale) {
-        Map<String, String> localeStrings = LocaleUtils.LOCALE_MAPPINGS.get(locale.toLowerCase());
+        LocaleTable localeStrings = getLocaleTable(toLowerCaseLocale(locale));
         if (localeStrings == null) {
-            localeStrings = LocaleUtils.LOCALE_MAPPINGS.get(LanguageUtils.getDefaultLocale());
+            localeStrings = getLocaleTable(toLowerCaseLocale(LanguageUtils.getDefaultLocale()));
             if (localeStrings == null) {
                 // Don't cause a NPE if the locale is STILL missing
                 GeyserConnector.getInstance().getLogger().debug("MISSING DEFAULT LOCALE: " + LanguageUtils.getDefaultLocale());
@@ -291,7 +415,8 @@ public class LocaleUtils {
             }
         }
 
-        return localeStrings.getOrDefault(messageText, messageText);
+        String localeString = localeStrings.get(keyIndexes.getInt(messageText));
+        return localeString != null ? localeString : messageText;
     }
 
     /**
@@ -311,6 +436,91 @@ public class LocaleUtils {
     public static void init() {
         // no-op
     }
+
+    /**
+     * The strings of a locale, stored as UTF-8 in one array and looked up by the shared key index. Strings are
+     * decoded the first time they are used and kept from then on.
+     */
+    private static final class LocaleTable {
+        private final byte[] data;
+        private final int[] offsets;
+        private final int[] lengths;
+        /**
+         * Decoded strings. Filled without locking, as decoding the same string twice does no harm.
+         */
+        private final String[] decoded;
+        /**
+         * When this locale was last used, to find the least recently used locale
+         */
+        private volatile long lastUsed = System.nanoTime();
+
+        private LocaleTable(byte[] data, int[] offsets, int[] lengths) {
+            this.data = data;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.decoded = new String[lengths.length];
+        }
+
+        /**
+         * Must be called while holding {@link LocaleUtils#LOAD_LOCK}, as new keys are indexed
+         */
+        private static LocaleTable fromJson(JsonNode localeObj) {
+            Object2IntMap<String> keyIndexes = LocaleUtils.keyIndexes;
+            Object2IntMap<String> newKeyIndexes = null;
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            int[] offsets = new int[keyIndexes.size() + localeObj.size()];
+            int[] lengths = new int[offsets.length];
+            Arrays.fill(lengths, -1);
+
+            int maxIndex = -1;
+            Iterator<Map.Entry<String, JsonNode>> localeIterator = localeObj.fields();
+            while (localeIterator.hasNext()) {
+                Map.Entry<String, JsonNode> entry = localeIterator.next();
+                int index = keyIndexes.getInt(entry.getKey());
+                if (index == -1) {
+                    if (newKeyIndexes == null) {
+                        newKeyIndexes = createKeyIndexes(keyIndexes);
+                    }
+                    index = newKeyIndexes.getInt(entry.getKey());
+                    if (index == -1) {
+                        index = newKeyIndexes.size();
+                        newKeyIndexes.put(entry.getKey(), index);
+                    }
+                }
+
+                byte[] value = entry.getValue().asText().getBytes(StandardCharsets.UTF_8);
+                offsets[index] = data.size();
+                lengths[index] = value.length;
+                data.write(value, 0, value.length);
+                maxIndex = Math.max(maxIndex, index);
+            }
+
+            if (newKeyIndexes != null) {
+                LocaleUtils.keyIndexes = newKeyIndexes;
+            }
+            return new LocaleTable(data.toByteArray(), Arrays.copyOf(offsets, maxIndex + 1), Arrays.copyOf(lengths, maxIndex + 1));
+        }
+
+        /**
+         * @param keyIndex the index of the translation key
+         * @return the string, or null if this locale doesn't have it
+         */
+        private String get(int keyIndex) {
+            if (keyIndex < 0 || keyIndex >= lengths.length || lengths[keyIndex] == -1) {
+                return null;
+            }
+            String string = decoded[keyIndex];
+            if (string == null) {
+                string = new String(data, offsets[keyIndex], lengths[keyIndex], StandardCharsets.UTF_8);
+                decoded[keyIndex] = string;
+            }
+            return string;
+        }
+
+        private long getSizeInBytes() {
+            return data.length + 12L * lengths.length;
+        }
+    }
 }
 
 @JsonIgnoreProperties(ignoreUnknown = true)
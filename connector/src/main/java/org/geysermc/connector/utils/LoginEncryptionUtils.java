@@ -30,6 +30,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import com.github.steveice10.mc.auth.service.MsaAuthenticationService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.nimbusds.jose.JWSObject;
 import com.nukkitx.network.util.Preconditions;
 import com.nukkitx.protocol.bedrock.packet.LoginPacket;
@@ -50,30 +52,93 @@ import org.geysermc.connector.network.session.cache.WindowCache;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
+import java.net.InetAddress;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PublicKey;
 import java.security.interfaces.ECPublicKey;
 import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 public class LoginEncryptionUtils {
     private static final ObjectMapper JSON_MAPPER = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
     private static boolean HAS_SENT_ENCRYPTION_MESSAGE = false;
 
+    private static final int LOGIN_RATE_LIMIT_SECONDS = 10;
+
+    /**
+     * Verifying the certificate chain and setting up encryption is CPU heavy, so it is done on these threads
+     * instead of the network threads.
+     */
+    private static final ExecutorService LOGIN_EXECUTOR;
+    /**
+     * Recent login counts per address, which expire {@link #LOGIN_RATE_LIMIT_SECONDS} after the first login
+     */
+    private static final Cache<InetAddress, AtomicInteger> RECENT_LOGINS = CacheBuilder.newBuilder()
+            .expireAfterWrite(LOGIN_RATE_LIMIT_SECONDS, TimeUnit.SECONDS)
+            .maximumSize(4096)
+            .build();
+    /**
+     * Results of verifying a chain JWT with a public key. Players keep the same chain between logins for a while,
+     * so reconnecting players don't need to have it verified again.
+     */
+    private static final Cache<List<Object>, Boolean> VERIFIED_SIGNATURES = CacheBuilder.newBuilder()
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .maximumSize(4096)
+            .build();
+
+    /**
+     * Upper bounds, in milliseconds, of the login latency histogram buckets. The last bucket holds everything above.
+     */
+    private static final long[] LATENCY_BUCKETS = {5, 10, 25, 50, 100, 250, 500, 1000};
+    private static final AtomicLongArray QUEUE_LATENCY = new AtomicLongArray(LATENCY_BUCKETS.length + 1);
+    private static final AtomicLongArray VERIFY_LATENCY = new AtomicLongArray(LATENCY_BUCKETS.length + 1);
+    private static final AtomicLongArray HANDSHAKE_LATENCY = new AtomicLongArray(LATENCY_BUCKETS.length + 1);
+    private static final AtomicLong LOGIN_COUNT = new AtomicLong();
+
+    static {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        int maxQueuedLogins = GeyserConnector.getInstance().getConfig().getBedrock().getMaxQueuedLogins();
+        BlockingQueue<Runnable> queue = maxQueuedLogins > 0 ? new ArrayBlockingQueue<>(maxQueuedLogins) : new LinkedBlockingQueue<>();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "Geyser Login Thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        LOGIN_EXECUTOR = executor;
+    }
+
+    private static boolean verifyJwt(String token, JWSObject jwt, ECPublicKey key) throws Exception {
+        List<Object> cacheKey = Arrays.asList(token, key);
+        Boolean verified = VERIFIED_SIGNATURES.getIfPresent(cacheKey);
+        if (verified == null) {
+            verified = EncryptionUtils.verifyJwt(jwt, key);
+            VERIFIED_SIGNATURES.put(cacheKey, verified);
+        }
+        return verified;
+    }
+
     private static boolean validateChainData(JsonNode data) throws Exception {
         ECPublicKey lastKey = null;
         boolean validChain = false;
         for (JsonNode node : data) {
-            JWSObject jwt = JWSObject.parse(node.asText());
+            String token = node.asText();
+            JWSObject jwt = JWSObject.parse(token);
 
             if (!validChain) {
-                validChain = EncryptionUtils.verifyJwt(jwt, EncryptionUtils.getMojangPublicKey());
+                validChain = verifyJwt(token, jwt, EncryptionUtils.getMojangPublicKey());
             }
 
             if (lastKey != null) {
-                 if (!EncryptionUtils.verifyJwt(jwt, lastKey)) return false;
+                 if (!verifyJwt(token, jwt, lastKey)) return false;
             }
 
             JsonNode payloadNode = JSON_MAPPER.readTree(jwt.getPayload().toString());
@@ -84,7 +149,87 @@ public class LoginEncryptionUtils {
         return validChain;
     }
 
-    public static void encryptPlayerConnection(GeyserConnector connector, GeyserSession session, LoginPacket loginPacket) {
+    /**
+     * Verify the player's login data and start encryption on a login thread, then continue the login.
+     *
+     * @param connector the connector
+     * @param session the session logging in
+     * @param loginPacket the login packet sent by the client
+     * @param onSuccess run on the login thread after encryption has started, if the session is still connected
+     */
+    public static void encryptPlayerConnectionAsync(GeyserConnector connector, GeyserSession session, LoginPacket loginPacket, Runnable onSuccess) {
+        InetAddress address = session.getUpstream().getAddress().getAddress();
+        int loginRateLimit = connector.getConfig().getBedrock().getLoginRateLimit();
+        if (loginRateLimit > 0) {
+            int recentLogins = RECENT_LOGINS.asMap().computeIfAbsent(address, k -> new AtomicInteger()).incrementAndGet();
+            if (recentLogins > loginRateLimit) {
+                connector.getLogger().info("Disconnecting " + address + " for logging in more than " + loginRateLimit +
+                        " times in " + LOGIN_RATE_LIMIT_SECONDS + " seconds (see login-rate-limit in the config)");
+                session.disconnect("disconnectionScreen.internalError.cantConnect");
+                return;
+            }
+        }
+
+        long queueTime = System.currentTimeMillis();
+        try {
+            LOGIN_EXECUTOR.execute(() -> {
+                recordLatency(QUEUE_LATENCY, System.currentTimeMillis() - queueTime);
+                if (session.isClosed()) {
+                    return;
+                }
+
+                try {
+                    if (encryptPlayerConnection(connector, session, loginPacket) && !session.isClosed()) {
+                        onSuccess.run();
+                    }
+                } catch (Throwable t) {
+                    connector.getLogger().error("Error while handling login for " + address, t);
+                    return;
+                }
+
+                if (LOGIN_COUNT.incrementAndGet() % 100 == 0) {
+                    connector.getLogger().debug(getLoginLatencyReport());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            connector.getLogger().info("Disconnecting " + address + " as too many logins are waiting to be handled (see max-queued-logins in the config)");
+            session.disconnect("disconnectionScreen.internalError.cantConnect");
+        }
+    }
+
+    private static void recordLatency(AtomicLongArray histogram, long millis) {
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKETS.length && millis > LATENCY_BUCKETS[bucket]) {
+            bucket++;
+        }
+        histogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * @return the login latency histograms of each login phase, for debugging
+     */
+    public static String getLoginLatencyReport() {
+        StringBuilder builder = new StringBuilder("Login latency after ").append(LOGIN_COUNT.get()).append(" logins:");
+        appendHistogram(builder, "queued", QUEUE_LATENCY);
+        appendHistogram(builder, "verification", VERIFY_LATENCY);
+        appendHistogram(builder, "handshake", HANDSHAKE_LATENCY);
+        return builder.toString();
+    }
+
+    private static void appendHistogram(StringBuilder builder, String name, AtomicLongArray histogram) {
+        builder.append("\n  ").append(name).append(':');
+        for (int i = 0; i < histogram.length(); i++) {
+            builder.append(' ').append(i < LATENCY_BUCKETS.length ? "<=" + LATENCY_BUCKETS[i] : ">" + LATENCY_BUCKETS[i - 1])
+                    .append("ms=").append(histogram.get(i));
+        }
+    }
+
+    /**
+     * Verify the player's login data and start encryption.
+     *
+     * @return true if the login can continue
+     */
+    public static boolean encryptPlayerConnection(GeyserConnector connector, GeyserSession session, LoginPacket loginPacket) {
         JsonNode certData;
         try {
             certData = JSON_MAPPER.readTree(loginPacket.getChainData().toByteArray());
@@ -97,18 +242,19 @@ public class LoginEncryptionUtils {
             throw new RuntimeException("Certificate data is not valid");
         }
 
-        encryptConnectionWithCert(connector, session, loginPacket.getSkinData().toString(), certChainData);
+        return encryptConnectionWithCert(connector, session, loginPacket.getSkinData().toString(), certChainData);
     }
 
-    private static void encryptConnectionWithCert(GeyserConnector connector, GeyserSession session, String clientData, JsonNode certChainData) {
+    private static boolean encryptConnectionWithCert(GeyserConnector connector, GeyserSession session, String clientData, JsonNode certChainData) {
         try {
+            long startTime = System.currentTimeMillis();
             boolean validChain = validateChainData(certChainData);
 
             connector.getLogger().debug(String.format("Is player data valid? %s", validChain));
 
             if (!validChain && !session.getConnector().getConfig().isEnableProxyConnections()) {
                 session.disconnect(LanguageUtils.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
-                return;
+                return false;
             }
             JWSObject jwt = JWSObject.parse(certChainData.get(certChainData.size() - 1).asText());
             JsonNode payload = JSON_MAPPER.readTree(jwt.getPayload().toBytes());
@@ -134,6 +280,9 @@ public class LoginEncryptionUtils {
 
             session.setClientData(JSON_MAPPER.convertValue(JSON_MAPPER.readTree(clientJwt.getPayload().toBytes()), BedrockClientData.class));
 
+            long handshakeTime = System.currentTimeMillis();
+            recordLatency(VERIFY_LATENCY, handshakeTime - startTime);
+
             if (EncryptionUtils.canUseEncryption()) {
                 try {
                     LoginEncryptionUtils.startEncryptionHandshake(session, identityPublicKey);
@@ -148,6 +297,8 @@ public class LoginEncryptionUtils {
             } else {
                 sendEncryptionFailedMessage(connector);
             }
+            recordLatency(HANDSHAKE_LATENCY, System.currentTimeMillis() - handshakeTime);
+            return true;
         } catch (Exception ex) {
             session.disconnect("disconnectionScreen.internalError.cantConnect");
             throw new RuntimeException("Unable to complete login", ex);
@@ -161,7 +312,7 @@ public class LoginEncryptionUtils {
 
         byte[] token = EncryptionUtils.generateRandomToken();
         SecretKey encryptionKey = EncryptionUtils.getSecretKey(serverKeyPair.getPrivate(), key, token);
-        session.getUpstream().getSession().enableEncryption(encryptionKey);
+        session.getUpstream().enableEncryption(encryptionKey);
 
         ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
         packet.setJwt(EncryptionUtils.createHandshakeJwt(serverKeyPair, token).serialize());
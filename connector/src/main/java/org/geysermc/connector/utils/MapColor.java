@@ -264,6 +264,16 @@ public enum MapColor {
     COLOR_235(11, 95, 70);
 
     private static final MapColor[] VALUES = values();
+    /**
+     * The ABGR color of every possible Java color ID, as a lookup table to avoid computing the colors per pixel
+     */
+    private static final int[] ABGR_COLORS = new int[256];
+
+    static {
+        for (int i = 0; i < ABGR_COLORS.length; i++) {
+            ABGR_COLORS[i] = fromId(i).toABGR();
+        }
+    }
 
     private final int red;
     private final int green;
@@ -279,6 +289,14 @@ public enum MapColor {
         return id >= 0 && id < VALUES.length ? VALUES[id] : COLOR_0;
     }
 
+    /**
+     * @param id the Java color ID of a map pixel
+     * @return the ABGR color Bedrock uses for this pixel
+     */
+    public static int toABGR(byte id) {
+        return ABGR_COLORS[id & 0xFF];
+    }
+
     public int toABGR() {
         int alpha = 255;
         if (red == -1 && green == -1 && blue == -1)
@@ -28,8 +28,15 @@ package org.geysermc.connector.utils;
 import org.geysermc.connector.GeyserConnector;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -48,8 +55,21 @@ public class ResourcePack {
      */
     public static final int CHUNK_SIZE = 102400;
 
+    /**
+     * The amount of sessions currently downloading resource packs
+     */
+    private static final AtomicInteger ACTIVE_DOWNLOADS = new AtomicInteger();
+    /**
+     * The total amount of resource pack bytes sent to clients
+     */
+    private static final AtomicLong BYTES_SENT = new AtomicLong();
+
     private byte[] sha256;
     private File file;
+    /**
+     * The contents of the pack file, mapped once so chunk requests don't need to open the file
+     */
+    private ByteBuffer data;
     private ResourcePackManifest manifest;
     private ResourcePackManifest.Version version;
 
@@ -71,6 +91,13 @@ public class ResourcePack {
                 ResourcePack pack = new ResourcePack();
 
                 pack.sha256 = FileUtils.calculateSHA256(file);
+                try {
+                    pack.data = mapFile(file);
+                } catch (IOException e) {
+                    GeyserConnector.getInstance().getLogger().error(LanguageUtils.getLocaleStringLog("geyser.resource_pack.broken", file.getName()));
+                    e.printStackTrace();
+                    continue;
+                }
 
                 Stream<? extends ZipEntry> stream = null;
                 try {
@@ -107,6 +134,79 @@ public class ResourcePack {
         }
     }
 
+    private static MappedByteBuffer mapFile(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Reserve a download slot for a session, if one is available. There is always a slot if
+     * max-concurrent-pack-downloads is 0.
+     *
+     * @return true if the session may start downloading
+     */
+    public static boolean tryStartDownload() {
+        int maxDownloads = GeyserConnector.getInstance().getConfig().getMaxConcurrentPackDownloads();
+        int active;
+        do {
+            active = ACTIVE_DOWNLOADS.get();
+            if (maxDownloads > 0 && active >= maxDownloads) {
+                return false;
+            }
+        } while (!ACTIVE_DOWNLOADS.compareAndSet(active, active + 1));
+        return true;
+    }
+
+    /**
+     * Release a download slot reserved by {@link #tryStartDownload()}
+     */
+    public static void finishDownload() {
+        ACTIVE_DOWNLOADS.decrementAndGet();
+    }
+
+    public static int getActiveDownloads() {
+        return ACTIVE_DOWNLOADS.get();
+    }
+
+    public static long getBytesSent() {
+        return BYTES_SENT.get();
+    }
+
+    /**
+     * @return the size of the pack file in bytes
+     */
+    public int getLength() {
+        return data.capacity();
+    }
+
+    /**
+     * @return the amount of {@link #CHUNK_SIZE} chunks the pack is split into
+     */
+    public int getChunkCount() {
+        return (getLength() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    /**
+     * Read a chunk of the pack from the mapped file.
+     *
+     * @param chunkIndex the index of the chunk
+     * @return the chunk data, empty if the index is out of bounds
+     */
+    public byte[] getChunk(int chunkIndex) {
+        long offset = (long) chunkIndex * CHUNK_SIZE;
+        if (chunkIndex < 0 || offset >= getLength()) {
+            return new byte[0];
+        }
+        byte[] chunk = new byte[(int) Math.min(CHUNK_SIZE, getLength() - offset)];
+        // Duplicate so concurrent readers each have their own position
+        ByteBuffer buffer = data.duplicate();
+        buffer.position((int) offset);
+        buffer.get(chunk);
+        BYTES_SENT.addAndGet(chunk.length);
+        return chunk;
+    }
+
     public byte[] getSha256() {
         return sha256;
     }
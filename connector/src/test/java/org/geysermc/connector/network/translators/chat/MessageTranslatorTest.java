@@ -74,4 +74,14 @@ public class MessageTranslatorTest {
         Assert.assertEquals("Reset before message is not handled properly", "§r§eGame Selector", MessageTranslator.convertMessageLenient("§r§eGame Selector"));
         Assert.assertEquals("Unimplemented formatting chars not stripped", "Bold Underline", MessageTranslator.convertMessageLenient("§m§nBold Underline"));
     }
+
+    @Test
+    public void toBedrockFormatting() {
+        Assert.assertEquals("Plain text is not left alone", "Hello", MessageTranslator.toBedrockFormatting("Hello"));
+        Assert.assertEquals("Color codes do not reset formatting", "§r§cRed §r§9Blue", MessageTranslator.toBedrockFormatting("§cRed §9Blue"));
+        Assert.assertEquals("Double resets are not collapsed", "§r§eText", MessageTranslator.toBedrockFormatting("§r§eText"));
+        Assert.assertEquals("Reset runs are not collapsed in pairs", "§r§r§r§a", MessageTranslator.toBedrockFormatting("§r§r§r§r§a"));
+        Assert.assertEquals("Unimplemented formatting chars not stripped", "§lBold", MessageTranslator.toBedrockFormatting("§m§l§nBold"));
+        Assert.assertEquals("Trailing section sign is not kept", "Text§", MessageTranslator.toBedrockFormatting("Text§"));
+    }
 }